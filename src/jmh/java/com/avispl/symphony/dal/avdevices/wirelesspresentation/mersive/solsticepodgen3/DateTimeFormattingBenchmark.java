@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.DateTimeFormattingService;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+
+/**
+ * Compares the Date and Time formatting of a polling cycle through the cached {@link DateTimeFormattingService}
+ * with a new {@link SimpleDateFormat} per call, the previous implementation.
+ * Run with {@code -prof gc} to compare the allocation rate.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeFormattingBenchmark {
+	private static final String[] ZONES = { "GMT-5:00", "GMT+5:30", "GMT-10:00", "GMT" };
+	private static final String[] FORMATS = { SolsticeConstant.DATE_FORMAT, SolsticeConstant.TIME_12H_FORMAT, SolsticeConstant.TIME_24H_FORMAT };
+	private static final long DATE_TIME = 1697625330123L;
+
+	@Setup
+	public void setUp() {
+		for (String zone : ZONES) {
+			for (String format : FORMATS) {
+				for (long offset = 0; offset < TimeUnit.DAYS.toMillis(366); offset += TimeUnit.MINUTES.toMillis(97)) {
+					String expected = simpleDateFormat(DATE_TIME + offset, format, zone);
+					String actual = DateTimeFormattingService.format(DATE_TIME + offset, format, zone);
+					if (!expected.equals(actual)) {
+						throw new IllegalStateException(String.format("%s in %s formatted as %s instead of %s", format, zone, actual, expected));
+					}
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void formattingService(Blackhole blackhole) {
+		blackhole.consume(DateTimeFormattingService.format(DATE_TIME, SolsticeConstant.DATE_FORMAT, ZONES[0]));
+		blackhole.consume(DateTimeFormattingService.format(DATE_TIME, SolsticeConstant.TIME_12H_FORMAT, ZONES[0]));
+	}
+
+	@Benchmark
+	public void simpleDateFormat(Blackhole blackhole) {
+		blackhole.consume(simpleDateFormat(DATE_TIME, SolsticeConstant.DATE_FORMAT, ZONES[0]));
+		blackhole.consume(simpleDateFormat(DATE_TIME, SolsticeConstant.TIME_12H_FORMAT, ZONES[0]));
+	}
+
+	private static String simpleDateFormat(long millis, String format, String zone) {
+		SimpleDateFormat dateFormat = new SimpleDateFormat(format);
+		dateFormat.setTimeZone(TimeZone.getTimeZone(zone));
+		return dateFormat.format(new Date(millis));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.EnumTypeHandler;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.HDMIOutputEnum;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.LanguageEnum;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.LicenseStatusEnum;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ScreenCustomizationEnum;
+
+/**
+ * Compares the enum lookups of a polling cycle through the cached {@link EnumTypeHandler} tables
+ * with the previous reflective implementation, kept here as the baseline.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumTypeHandlerBenchmark {
+
+	@Benchmark
+	public void lookupTables(Blackhole blackhole) {
+		blackhole.consume(EnumTypeHandler.getEnumNames(HDMIOutputEnum.class));
+		blackhole.consume(EnumTypeHandler.getNameByValue(HDMIOutputEnum.class, "2"));
+		blackhole.consume(EnumTypeHandler.getEnumNames(LanguageEnum.class));
+		blackhole.consume(EnumTypeHandler.getNameByValue(LanguageEnum.class, "cy_GB"));
+		blackhole.consume(EnumTypeHandler.getNameByValue(LicenseStatusEnum.class, "3"));
+		blackhole.consume(EnumTypeHandler.getValueByName(ScreenCustomizationEnum.class, "ScreenKeyOnPresenceBar"));
+	}
+
+	@Benchmark
+	public void reflection(Blackhole blackhole) {
+		blackhole.consume(getEnumNames(HDMIOutputEnum.class));
+		blackhole.consume(getNameByValue(HDMIOutputEnum.class, "2"));
+		blackhole.consume(getEnumNames(LanguageEnum.class));
+		blackhole.consume(getNameByValue(LanguageEnum.class, "cy_GB"));
+		blackhole.consume(getNameByValue(LicenseStatusEnum.class, "3"));
+		blackhole.consume(getValueByName(ScreenCustomizationEnum.class, "ScreenKeyOnPresenceBar"));
+	}
+
+	private static <T extends Enum<T>> String[] getEnumNames(Class<T> enumType) {
+		List<String> names = new ArrayList<>();
+		for (T c : enumType.getEnumConstants()) {
+			try {
+				Method method = c.getClass().getMethod("getName");
+				names.add((String) method.invoke(c));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return names.toArray(new String[names.size()]);
+	}
+
+	private static <T extends Enum<T>> String getValueByName(Class<T> enumType, String name) {
+		try {
+			for (T metric : enumType.getEnumConstants()) {
+				Method methodName = metric.getClass().getMethod("getName");
+				if (name.equals(methodName.invoke(metric))) {
+					return metric.getClass().getMethod("getValue").invoke(metric).toString();
+				}
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		throw new IllegalStateException("Fail to get enum " + enumType.getSimpleName() + " with name is " + name);
+	}
+
+	private static <T extends Enum<T>> String getNameByValue(Class<T> enumType, String value) {
+		try {
+			for (T metric : enumType.getEnumConstants()) {
+				Method methodValue = metric.getClass().getMethod("getValue");
+				if (value.equals(methodValue.invoke(metric).toString())) {
+					return metric.getClass().getMethod("getName").invoke(metric).toString();
+				}
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		throw new IllegalStateException("Fail to get enum " + enumType.getSimpleName() + " with value is " + value);
+	}
+}
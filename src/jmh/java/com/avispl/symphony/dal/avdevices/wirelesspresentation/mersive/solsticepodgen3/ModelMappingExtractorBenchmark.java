@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ModelMappingExtractor;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+
+/**
+ * Compares the extraction of the model mapping properties from the recorded /api/config and /api/stats responses
+ * by the SpEL based {@link AggregatedDeviceProcessor} and by the precompiled {@link ModelMappingExtractor}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelMappingExtractorBenchmark {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+	private ModelMappingExtractor modelMappingExtractor;
+	private JsonNode configResponse;
+	private JsonNode statisticResponse;
+
+	@Setup
+	public void setUp() throws Exception {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(SolsticeConstant.FILE_MAPPING, getClass());
+		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		modelMappingExtractor = ModelMappingExtractor.fromMapping(mapping);
+		configResponse = readFixture("/solstice/api-config.json");
+		statisticResponse = readFixture("/solstice/api-stats.json");
+		if (!aggregatedDeviceProcessor().equals(modelMappingExtractor())) {
+			throw new IllegalStateException("ModelMappingExtractor doesn't extract the same properties as AggregatedDeviceProcessor");
+		}
+	}
+
+	@Benchmark
+	public Map<String, String> aggregatedDeviceProcessor() {
+		Map<String, String> properties = new HashMap<>();
+		JsonNode node = objectMapper.createArrayNode().add(configResponse).add(statisticResponse);
+		for (AggregatedDevice item : aggregatedDeviceProcessor.extractDevices(node)) {
+			properties.putAll(item.getProperties());
+		}
+		return properties;
+	}
+
+	@Benchmark
+	public Map<String, String> modelMappingExtractor() {
+		Map<String, String> properties = new HashMap<>();
+		modelMappingExtractor.extract(configResponse, properties);
+		modelMappingExtractor.extract(statisticResponse, properties);
+		return properties;
+	}
+
+	private JsonNode readFixture(String path) throws Exception {
+		try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+			return objectMapper.readTree(inputStream);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ModelMappingExtractor;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.StreamingResponseParser;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.MonitoringResponse;
+
+/**
+ * Compares parsing the recorded /api/config and /api/stats responses into a JSON tree followed by the
+ * {@link ModelMappingExtractor} with the single pass {@link StreamingResponseParser}.
+ * Run with {@code -prof gc} to compare the allocation rate.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitoringResponseParsingBenchmark {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ModelMappingExtractor modelMappingExtractor;
+	private StreamingResponseParser streamingResponseParser;
+	private byte[] configResponse;
+	private byte[] statisticResponse;
+
+	@Setup
+	public void setUp() throws Exception {
+		modelMappingExtractor = ModelMappingExtractor.fromMapping(new PropertiesMappingParser().loadYML(SolsticeConstant.FILE_MAPPING, getClass()));
+		streamingResponseParser = new StreamingResponseParser(objectMapper, modelMappingExtractor.getPropertyPaths(), SolsticeConstant.SYSTEM_CURATION,
+				SolsticeConstant.TIME_ZONES);
+		configResponse = readFixture("/solstice/api-config.json");
+		statisticResponse = readFixture("/solstice/api-stats.json");
+		if (!treeParsing().equals(streamingParsing())) {
+			throw new IllegalStateException("StreamingResponseParser doesn't extract the same properties as ModelMappingExtractor");
+		}
+		if (streamingResponseParser.parse(configResponse).getTimeZones().isEmpty()) {
+			throw new IllegalStateException("StreamingResponseParser doesn't read the time zones");
+		}
+	}
+
+	@Benchmark
+	public Map<String, String> treeParsing() throws Exception {
+		Map<String, String> properties = new HashMap<>();
+		modelMappingExtractor.extract(objectMapper.readTree(configResponse), properties);
+		modelMappingExtractor.extract(objectMapper.readTree(statisticResponse), properties);
+		return properties;
+	}
+
+	@Benchmark
+	public Map<String, String> streamingParsing() throws Exception {
+		Map<String, String> properties = new HashMap<>();
+		MonitoringResponse config = streamingResponseParser.parse(configResponse);
+		properties.putAll(config.getProperties());
+		properties.putAll(streamingResponseParser.parse(statisticResponse).getProperties());
+		return properties;
+	}
+
+	private byte[] readFixture(String path) throws Exception {
+		try (InputStream inputStream = getClass().getResourceAsStream(path); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, read);
+			}
+			return outputStream.toByteArray();
+		}
+	}
+}
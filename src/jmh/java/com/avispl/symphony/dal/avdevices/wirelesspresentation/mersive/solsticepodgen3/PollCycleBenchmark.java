@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ControllablePropertyRegistry;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+
+/**
+ * Measures the cost of a polling cycle and of its population steps against the recorded /api/config, /api/stats
+ * and active routing responses, served from memory so that only the adapter work is measured.
+ * The private steps of {@link SolsticePodGen3Communicator} are called through method handles.
+ * The profile runs it with {@code -prof gc} to track the allocation per poll.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollCycleBenchmark {
+	private RecordedSolsticePod communicator;
+	private MethodHandle updateLocalCaching;
+	private MethodHandle populateMonitoringAndControllingData;
+	private MethodHandle createBodyRequest;
+
+	@Setup
+	public void setUp() throws Exception {
+		communicator = new RecordedSolsticePod();
+		communicator.setHost("127.0.0.1");
+		communicator.setPassword("admin");
+		communicator.setConfigManagement(SolsticeConstant.TRUE);
+		communicator.init();
+		updateLocalCaching = findMethod("updateLocalCaching");
+		populateMonitoringAndControllingData = findMethod("populateMonitoringAndControllingData", Map.class, Map.class, ControllablePropertyRegistry.class);
+		createBodyRequest = findMethod("createBodyRequest", String.class, String.class, Object.class);
+		Map<String, String> stats = ((ExtendedStatistics) poll().get(0)).getStatistics();
+		if (!stats.containsKey(SolsticeConstant.ACTIVE_ROUTING_GROUP + "Connection2")) {
+			throw new IllegalStateException("The active routing responses have not been populated");
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		communicator.destroy();
+	}
+
+	@Benchmark
+	public List<Statistics> poll() throws Exception {
+		return communicator.getMultipleStatistics();
+	}
+
+	@Benchmark
+	public void updateLocalCaching() throws Throwable {
+		updateLocalCaching.invoke(communicator);
+	}
+
+	@Benchmark
+	public Map<String, String> populateMonitoringAndControllingData() throws Throwable {
+		Map<String, String> stats = new HashMap<>();
+		populateMonitoringAndControllingData.invoke(communicator, stats, new HashMap<String, String>(), new ControllablePropertyRegistry());
+		return stats;
+	}
+
+	@Benchmark
+	public Object createBodyRequest() throws Throwable {
+		return createBodyRequest.invoke(communicator, SolsticePropertiesList.DISPLAY_NAME.getApiGroupName(), SolsticePropertiesList.DISPLAY_NAME.getApiPropertyName(), "Huddle Room 4");
+	}
+
+	private MethodHandle findMethod(String name, Class<?>... parameterTypes) throws Exception {
+		Method method = SolsticePodGen3Communicator.class.getDeclaredMethod(name, parameterTypes);
+		method.setAccessible(true);
+		return MethodHandles.lookup().unreflect(method);
+	}
+
+	/**
+	 * Serves the recorded responses instead of sending the requests to a device.
+	 */
+	private static class RecordedSolsticePod extends SolsticePodGen3Communicator {
+		private final ObjectMapper mapper = new ObjectMapper();
+		private final Map<String, byte[]> responses = new HashMap<>();
+
+		RecordedSolsticePod() throws Exception {
+			responses.put(SolsticeCommand.CONFIG_COMMAND, readFixture("/solstice/api-config.json"));
+			responses.put(SolsticeCommand.STATS_COMMAND, readFixture("/solstice/api-stats.json"));
+			responses.put(SolsticeCommand.GET_CURRENT_SESSION_COMMAND, readFixture("/solstice/api-current-session.json"));
+			responses.put(SolsticeCommand.GET_LICENSING_COMMAND, readFixture("/solstice/api-licensing.json"));
+			responses.put(SolsticeCommand.GET_CONNECTIONS_COMMAND, readFixture("/solstice/api-connections.json"));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+			byte[] body = "{}".getBytes();
+			if (uri.startsWith(String.format(SolsticeCommand.CONFIG_COMMAND, getHost()))) {
+				body = responses.get(SolsticeCommand.CONFIG_COMMAND);
+			} else if (uri.startsWith(String.format(SolsticeCommand.STATS_COMMAND, getHost()))) {
+				body = responses.get(SolsticeCommand.STATS_COMMAND);
+			} else if (responses.containsKey(uri)) {
+				body = responses.get(uri);
+			}
+			return responseClass == byte[].class ? (Response) body : mapper.readValue(body, responseClass);
+		}
+
+		@Override
+		protected <Request, Response> Response doPost(String uri, Request request, Class<Response> responseClass) throws Exception {
+			Map<String, Object> response = new HashMap<>();
+			if (uri.equals(SolsticeCommand.AUTHENTICATION_COMMAND)) {
+				response.put(SolsticeConstant.ACCESS_TOKEN, "token");
+				response.put(SolsticeConstant.EXPIRES_IN, TimeUnit.DAYS.toSeconds(1));
+			}
+			return mapper.convertValue(response, responseClass);
+		}
+
+		private byte[] readFixture(String path) throws Exception {
+			try (InputStream inputStream = getClass().getResourceAsStream(path); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+				byte[] buffer = new byte[4096];
+				int read;
+				while ((read = inputStream.read(buffer)) != -1) {
+					outputStream.write(buffer, 0, read);
+				}
+				return outputStream.toByteArray();
+			}
+		}
+	}
+}
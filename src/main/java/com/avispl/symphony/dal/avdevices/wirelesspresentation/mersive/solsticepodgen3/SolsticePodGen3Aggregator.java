@@ -0,0 +1,435 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.springframework.web.client.RestTemplate;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitBreaker;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitState;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.PooledHttpClient;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.StaggeredPollScheduler;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.FleetPod;
+import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * SolsticePodGen3Aggregator monitors a fleet of Solstice Pods from a single adapter instance and publishes one aggregated device per pod.
+ * The pods share one mapping, one pool of keep-alive connections and one bounded pool of polling threads.
+ * Each pod retrieves its /api/config and /api/stats responses, mapped by the {@link AggregatedDeviceProcessor} of the model mapping.
+ * The polls of the pods are staggered over the polling interval by a {@link StaggeredPollScheduler}, so the fleet never polls in bursts.
+ * A pod is polled again only once its previous poll has completed, and stops being polled while its circuit is open,
+ * so slow or unreachable pods never hold more than their own polling thread.
+ *
+ * Configuration:
+ * <ul>
+ * <li> - pods: comma separated pod addresses, each followed by =password if it differs from the adapter password</li>
+ * <li> - maxConcurrentPolls: number of pods polled at the same time</li>
+ * <li> - fleetPollingInterval: interval between two polls of a pod, in seconds</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class SolsticePodGen3Aggregator extends RestCommunicator implements Aggregator, Monitorable {
+	/**
+	 * Maps the configuration and statistics responses of every pod, built once from the mapping file
+	 */
+	private final AggregatedDeviceProcessor aggregatedDeviceProcessor;
+
+	/**
+	 * Pods of the fleet in configuration order, mapped by address
+	 */
+	private final Map<String, FleetPod> fleetPods = new LinkedHashMap<>();
+
+	/**
+	 * pods imported from the user interface
+	 */
+	private String pods;
+
+	/**
+	 * Number of pods polled at the same time
+	 */
+	private int maxConcurrentPolls = SolsticeConstant.DEFAULT_MAX_CONCURRENT_POLLS;
+
+	/**
+	 * Interval between two polls of a pod in seconds
+	 */
+	private long fleetPollingInterval = SolsticeConstant.DEFAULT_FLEET_POLLING_INTERVAL;
+
+	/**
+	 * Bounded pool of the threads polling the pods
+	 */
+	private ExecutorService fleetExecutor;
+
+	/**
+	 * Scheduler dispatching the polls of the pods at their slots
+	 */
+	private ScheduledExecutorService fleetScheduler;
+
+	/**
+	 * Spreads the polls of the pods over {@link #fleetPollingInterval}
+	 */
+	private volatile StaggeredPollScheduler pollScheduler;
+
+	/**
+	 * Keep-alive connection pool shared by all the pods, created with the first request
+	 */
+	private PooledHttpClient pooledHttpClient;
+
+	/**
+	 * RestTemplate sending the requests over {@link #pooledHttpClient}
+	 */
+	private RestTemplate pooledRestTemplate;
+
+	/**
+	 * Constructs a new SolsticePodGen3Aggregator instance.
+	 *
+	 * @throws Exception if the mapping file can't be loaded
+	 */
+	public SolsticePodGen3Aggregator() throws Exception {
+		super();
+		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(new PropertiesMappingParser().loadYML(SolsticeConstant.FILE_MAPPING, getClass()));
+		this.setTrustAllCertificates(true);
+	}
+
+	/**
+	 * Retrieves {@link #pods}
+	 *
+	 * @return value of {@link #pods}
+	 */
+	public String getPods() {
+		return pods;
+	}
+
+	/**
+	 * Sets {@link #pods} value
+	 *
+	 * @param pods new value of {@link #pods}
+	 */
+	public void setPods(String pods) {
+		this.pods = pods;
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrentPolls}
+	 *
+	 * @return value of {@link #maxConcurrentPolls}
+	 */
+	public String getMaxConcurrentPolls() {
+		return String.valueOf(maxConcurrentPolls);
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentPolls} value
+	 *
+	 * @param maxConcurrentPolls new value of {@link #maxConcurrentPolls}, {@link SolsticeConstant#DEFAULT_MAX_CONCURRENT_POLLS} if it is not a positive number
+	 */
+	public void setMaxConcurrentPolls(String maxConcurrentPolls) {
+		try {
+			int value = Integer.parseInt(maxConcurrentPolls.trim());
+			this.maxConcurrentPolls = value > 0 ? value : SolsticeConstant.DEFAULT_MAX_CONCURRENT_POLLS;
+		} catch (Exception e) {
+			logger.debug("Invalid max concurrent polls " + maxConcurrentPolls);
+			this.maxConcurrentPolls = SolsticeConstant.DEFAULT_MAX_CONCURRENT_POLLS;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #fleetPollingInterval}
+	 *
+	 * @return value of {@link #fleetPollingInterval}
+	 */
+	public String getFleetPollingInterval() {
+		return String.valueOf(fleetPollingInterval);
+	}
+
+	/**
+	 * Sets {@link #fleetPollingInterval} value
+	 *
+	 * @param fleetPollingInterval new value of {@link #fleetPollingInterval}, {@link SolsticeConstant#DEFAULT_FLEET_POLLING_INTERVAL} if it is not a positive number
+	 */
+	public void setFleetPollingInterval(String fleetPollingInterval) {
+		try {
+			long value = Long.parseLong(fleetPollingInterval.trim());
+			this.fleetPollingInterval = value > 0 ? value : SolsticeConstant.DEFAULT_FLEET_POLLING_INTERVAL;
+		} catch (Exception e) {
+			logger.debug("Invalid fleet polling interval " + fleetPollingInterval);
+			this.fleetPollingInterval = SolsticeConstant.DEFAULT_FLEET_POLLING_INTERVAL;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Returns the devices of the pods polled at least once, the pods failing their latest poll are offline and keep their earlier properties.
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		List<AggregatedDevice> devices = new ArrayList<>();
+		for (FleetPod pod : getFleetPods()) {
+			AggregatedDevice device = pod.getDevice();
+			if (device != null) {
+				devices.add(device);
+			}
+		}
+		return devices;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		return retrieveMultipleStatistics().stream().filter(device -> deviceIds.contains(device.getDeviceId())).collect(Collectors.toList());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Returns the state of the fleet polling.
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		List<FleetPod> currentPods = getFleetPods();
+		int onlinePods = 0;
+		int openCircuits = 0;
+		for (FleetPod pod : currentPods) {
+			AggregatedDevice device = pod.getDevice();
+			if (device != null && Boolean.TRUE.equals(device.getDeviceOnline())) {
+				onlinePods++;
+			}
+			if (pod.getCircuitBreaker().getState() != CircuitState.CLOSED) {
+				openCircuits++;
+			}
+		}
+		Map<String, String> stats = new HashMap<>();
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.MONITORED_PODS, String.valueOf(currentPods.size()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.ONLINE_PODS, String.valueOf(onlinePods));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.OPEN_CIRCUITS, String.valueOf(openCircuits));
+		StaggeredPollScheduler currentPollScheduler = pollScheduler;
+		if (currentPollScheduler != null) {
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.ON_TIME_POLLS, String.valueOf(currentPollScheduler.getOnTimePolls()));
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.LATE_POLLS, String.valueOf(currentPollScheduler.getLatePolls()));
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.SKIPPED_POLLS, String.valueOf(currentPollScheduler.getSkippedPolls()));
+		}
+		PooledHttpClient httpClient = pooledHttpClient;
+		if (httpClient != null) {
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.HTTP_REQUESTS, String.valueOf(httpClient.getRequests()));
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.HTTP_CONNECTIONS_OPENED, String.valueOf(httpClient.getOpenedConnections()));
+		}
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() {
+		//Solstice Pod doesn't require API token.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The requests to all the pods are sent over one pool of keep-alive connections resuming their TLS sessions,
+	 * with the message converters and interceptors of the RestTemplate configured by {@link RestCommunicator}
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		httpClientLock.readLock().lock();
+		try {
+			if (pooledRestTemplate != null) {
+				return pooledRestTemplate;
+			}
+		} finally {
+			httpClientLock.readLock().unlock();
+		}
+		RestTemplate baseTemplate = super.obtainRestTemplate();
+		httpClientLock.writeLock().lock();
+		try {
+			if (pooledRestTemplate == null) {
+				pooledHttpClient = new PooledHttpClient(this.getTrustAllCertificates(), this.getTimeout(), maxConcurrentPolls, SolsticeConstant.HTTP_KEEP_ALIVE,
+						Math.max(SolsticeConstant.TLS_SESSION_CACHE_SIZE, getFleetPods().size()), SolsticeConstant.TLS_SESSION_TIMEOUT);
+				pooledRestTemplate = pooledHttpClient.createRestTemplate(baseTemplate, null);
+			}
+			return pooledRestTemplate;
+		} finally {
+			httpClientLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		super.internalInit();
+		synchronized (fleetPods) {
+			fleetPods.clear();
+			if (StringUtils.isNotNullOrEmpty(pods)) {
+				for (String entry : pods.split(SolsticeConstant.COMMA)) {
+					String[] hostAndPassword = entry.trim().split(SolsticeConstant.EQUAL, 2);
+					String host = hostAndPassword[0].trim();
+					if (host.isEmpty()) {
+						continue;
+					}
+					String password = hostAndPassword.length > 1 ? hostAndPassword[1] : this.getPassword();
+					fleetPods.put(host, new FleetPod(host, password == null ? SolsticeConstant.EMPTY : password, new CircuitBreaker(SolsticeConstant.CIRCUIT_FAILURE_THRESHOLD,
+							TimeUnit.SECONDS.toMillis(SolsticeConstant.CIRCUIT_INITIAL_BACKOFF), TimeUnit.SECONDS.toMillis(SolsticeConstant.CIRCUIT_MAX_BACKOFF))));
+				}
+			}
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		fleetExecutor = Executors.newFixedThreadPool(maxConcurrentPolls, runnable -> {
+			Thread thread = new Thread(runnable, String.format("SolsticePodFleetPolling-%d", threadCount.incrementAndGet()));
+			thread.setDaemon(true);
+			return thread;
+		});
+		fleetScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "SolsticePodFleetScheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		pollScheduler = new StaggeredPollScheduler(fleetScheduler, fleetExecutor, TimeUnit.SECONDS.toMillis(fleetPollingInterval), SolsticeConstant.POLL_LATE_TOLERANCE);
+		List<FleetPod> currentPods = getFleetPods();
+		for (int slot = 0; slot < currentPods.size(); slot++) {
+			FleetPod pod = currentPods.get(slot);
+			pollScheduler.schedule(pod.getHost(), slot, currentPods.size(), pod.getCircuitBreaker()::allowRequest, () -> pollPod(pod));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (pollScheduler != null) {
+			pollScheduler.cancel();
+			pollScheduler = null;
+		}
+		if (fleetScheduler != null) {
+			fleetScheduler.shutdownNow();
+			fleetScheduler = null;
+		}
+		if (fleetExecutor != null) {
+			fleetExecutor.shutdownNow();
+			fleetExecutor = null;
+		}
+		httpClientLock.writeLock().lock();
+		try {
+			if (pooledHttpClient != null) {
+				pooledHttpClient.close();
+				pooledHttpClient = null;
+			}
+			pooledRestTemplate = null;
+		} finally {
+			httpClientLock.writeLock().unlock();
+		}
+		synchronized (fleetPods) {
+			fleetPods.clear();
+		}
+		super.internalDestroy();
+	}
+
+	/**
+	 * Retrieves the configuration and statistics of a pod and publishes them as its aggregated device.
+	 * If the pod can't be reached, its device is published offline with its earlier properties.
+	 *
+	 * @param pod the pod to poll
+	 */
+	private void pollPod(FleetPod pod) {
+		try {
+			String passwordParameter = pod.getPassword().isEmpty() ? SolsticeConstant.EMPTY : SolsticeConstant.PASSWORD_REQUEST_PARAM + pod.getPassword();
+			JsonNode configResponse = this.doGet(String.format(SolsticeCommand.CONFIG_COMMAND, pod.getHost()) + passwordParameter, JsonNode.class);
+			JsonNode statisticResponse = this.doGet(String.format(SolsticeCommand.STATS_COMMAND, pod.getHost()) + passwordParameter, JsonNode.class);
+			Map<String, String> properties = new HashMap<>();
+			aggregatedDeviceProcessor.applyProperties(properties, configResponse, SolsticeConstant.GENERIC_MODEL);
+			aggregatedDeviceProcessor.applyProperties(properties, statisticResponse, SolsticeConstant.GENERIC_MODEL);
+			pod.getCircuitBreaker().recordSuccess();
+			pod.setDevice(createDevice(pod, properties, true));
+		} catch (Exception e) {
+			pod.getCircuitBreaker().recordFailure();
+			AggregatedDevice device = pod.getDevice();
+			pod.setDevice(createDevice(pod, device == null ? new HashMap<>() : device.getProperties(), false));
+			logger.warn(String.format("Unable to poll the pod %s: %s", pod.getHost(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Creates the aggregated device of a pod, identified by the address of the pod.
+	 * The circuit state and the time of the latest successful poll are published with the mapped properties.
+	 *
+	 * @param pod the pod
+	 * @param properties the properties mapped from the responses of the pod
+	 * @param isOnline whether the latest poll of the pod succeeded
+	 * @return the aggregated device
+	 */
+	private AggregatedDevice createDevice(FleetPod pod, Map<String, String> properties, boolean isOnline) {
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(pod.getHost());
+		String displayName = properties.get(SolsticePropertiesList.DISPLAY_NAME.getName());
+		device.setDeviceName(StringUtils.isNotNullOrEmpty(displayName) ? displayName : pod.getHost());
+		device.setDeviceMake(SolsticeConstant.DEVICE_MAKE);
+		device.setDeviceModel(properties.get(SolsticePropertiesList.PRODUCT_NAME.getName()));
+		device.setDeviceOnline(isOnline);
+		Map<String, String> deviceProperties = new HashMap<>(properties);
+		deviceProperties.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE, pod.getCircuitBreaker().getState().getName());
+		AggregatedDevice previousDevice = pod.getDevice();
+		if (isOnline) {
+			device.setTimestamp(System.currentTimeMillis());
+		} else if (previousDevice != null) {
+			device.setTimestamp(previousDevice.getTimestamp());
+		}
+		if (device.getTimestamp() != null) {
+			deviceProperties.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.LAST_MONITORING_UPDATE, new Date(device.getTimestamp()).toString());
+		}
+		device.setProperties(deviceProperties);
+		return device;
+	}
+
+	/**
+	 * Retrieves a snapshot of the pods of the fleet
+	 *
+	 * @return the pods in configuration order
+	 */
+	private List<FleetPod> getFleetPods() {
+		synchronized (fleetPods) {
+			return new ArrayList<>(fleetPods.values());
+		}
+	}
+}
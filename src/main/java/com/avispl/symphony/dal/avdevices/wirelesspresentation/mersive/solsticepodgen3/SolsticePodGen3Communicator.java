@@ -6,27 +6,50 @@ package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticep
 
 import java.io.IOException;
 import java.net.ConnectException;
-import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
-import java.text.SimpleDateFormat;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,25 +61,46 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
-import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
-import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ActiveRoutingProperty;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.AdaptivePollingCadence;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ApiTokenManager;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.BrowserLookInEnum;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitBreaker;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitState;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ControllablePropertyRegistry;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.DateTimeFormattingService;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.EnumTypeHandler;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.HDMIOutputEnum;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.LanguageEnum;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.LicenseStatusEnum;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ModelMappingExtractor;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.PingMode;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.PollInstrumentation;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.PooledHttpClient;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.QuickConnectActionEnum;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.ScreenCustomizationEnum;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.StaggeredPollScheduler;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.StreamingResponseParser;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.TcpPingEngine;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.TrafficCapture;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.TrafficReplay;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.ApiToken;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.ControlOverride;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.DebouncedConfigWrite;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.MonitoringResponse;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.PendingConfigWrite;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.PingResult;
 import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TimeZone;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TimeZoneCatalogue;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TrafficRecord;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
 
@@ -128,24 +172,58 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class SolsticePodGen3Communicator extends RestCommunicator implements Monitorable, Controller {
 	/**
-	 * reentrantLock is a reentrant lock used for synchronization.
+	 * reentrantLock serializes the polling cycles. It is held while the monitoring data is retrieved from the device.
 	 */
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * An instance of the AggregatedDeviceProcessor class used to process and aggregate device-related data.
+	 * controlLock guards the local cache, the derived data, the published snapshot and the control overrides.
+	 * Controls hold it while they talk to the device, polling cycles only while they merge and publish the retrieved data,
+	 * so a control never waits for the requests of a polling cycle.
+	 */
+	private final ReentrantLock controlLock = new ReentrantLock();
+
+	/**
+	 * Controls that can't be merged into a combined configuration write: they use another endpoint or a custom body,
+	 * or read the configuration back right after the write
+	 */
+	private static final Set<SolsticePropertiesList> NON_COALESCIBLE_PROPERTIES = EnumSet.of(SolsticePropertiesList.SET_DEFAULT_BACKGROUND,
+			SolsticePropertiesList.CLIENT_QUICK_CONNECT_ACTION, SolsticePropertiesList.SCREEN_KEY, SolsticePropertiesList.LANGUAGE);
+
+	/**
+	 * Endpoints the captured requests are recorded and replayed by
+	 */
+	private static final String[] TRAFFIC_COMMANDS = { SolsticeCommand.CONFIG_COMMAND, SolsticeCommand.STATS_COMMAND, SolsticeCommand.RESET_KEY,
+			SolsticeCommand.SET_DEFAULT_BACKGROUND, SolsticeCommand.AUTHENTICATION_COMMAND, SolsticeCommand.GET_CURRENT_SESSION_COMMAND,
+			SolsticeCommand.GET_LICENSING_COMMAND, SolsticeCommand.GET_CONNECTIONS_COMMAND };
+
+	/**
+	 * Statistics telling that the room is in use when one of them is above 0
+	 */
+	private static final SolsticePropertiesList[] ACTIVITY_PROPERTIES = { SolsticePropertiesList.CONNECTED_USERS, SolsticePropertiesList.CURRENT_LIVE_SOURCE_COUNT,
+			SolsticePropertiesList.CURRENT_POST_COUNT };
+
+	/**
+	 * Properties whose populated value depends on the current time and is updated on every polling cycle
+	 */
+	private static final SolsticePropertiesList[] TIME_DEPENDENT_PROPERTIES = { SolsticePropertiesList.DATE, SolsticePropertiesList.TIME,
+			SolsticePropertiesList.TIME_SINCE_LAST_CONNECTION_INITIALIZE };
+
+	/**
+	 * Streaming parser of the configuration and statistics responses, built once from the mapping file.
 	 */
-	private final AggregatedDeviceProcessor aggregatedDeviceProcessor;
+	private final StreamingResponseParser monitoringResponseParser;
 
 	/**
-	 * Local cache stores data after a period of time
+	 * Local cache stores data after a period of time.
+	 * Guarded by {@link #controlLock}: the polling cycles rebuild it in place, the controls replace it with an updated copy.
 	 */
-	private final Map<String, String> localCacheMapOfPropertyNameAndValue = new HashMap<>();
+	private Map<String, String> localCacheMapOfPropertyNameAndValue = new HashMap<>();
 
 	/**
-	 * availableTimeZones represents a list of available time zones.
+	 * Catalogue of the time zones available on the device
 	 */
-	private final List<TimeZone> availableTimeZones = new ArrayList<>();
+	private TimeZoneCatalogue timeZoneCatalogue = TimeZoneCatalogue.EMPTY;
 
 	/**
 	 * ObjectMapper is a Jackson library object mapper used for JSON serialization and deserialization.
@@ -153,14 +231,171 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
-	 * Holds the JSON response for configuration data.
+	 * Holds the parsed response for configuration data.
+	 */
+	private MonitoringResponse configResponse;
+
+	/**
+	 * Holds the parsed response for statistical data.
+	 */
+	private MonitoringResponse statisticResponse;
+
+	/**
+	 * Holds the JSON response for the current active routing session.
+	 */
+	private JsonNode currentSessionResponse;
+
+	/**
+	 * Holds the JSON response for the active routing licensing information.
+	 */
+	private JsonNode licensingInfoResponse;
+
+	/**
+	 * Holds the JSON response for the active routing connections.
+	 */
+	private JsonNode connectionsResponse;
+
+	/**
+	 * Configuration response the {@link #timeZoneCatalogue} has been checked against
+	 */
+	private MonitoringResponse cachedConfigResponse;
+
+	/**
+	 * Time of the last successful request of each monitoring endpoint, mapped by {@link SolsticeCommand} endpoint
+	 */
+	private final Map<String, Long> endpointRefreshTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * Configuration values queued while a {@link #controlProperties(List)} batch is running, mapped by API group and property name.
+	 * Null outside of a batch.
+	 */
+	private Map<String, PendingConfigWrite> pendingConfigWrites;
+
+	/**
+	 * Registry of the controllable properties of {@link #localExtendedStatistics}, indexed by property name
+	 */
+	private ControllablePropertyRegistry localControllableProperties;
+
+	/**
+	 * Configuration response the derived statistics and controls have been populated from
+	 */
+	private MonitoringResponse derivedConfigResponse;
+
+	/**
+	 * Statistics response the derived statistics and controls have been populated from
+	 */
+	private MonitoringResponse derivedStatisticResponse;
+
+	/**
+	 * Statistics populated from the latest changed configuration and statistics responses
+	 */
+	private Map<String, String> derivedStatistics;
+
+	/**
+	 * Control statistics populated from the latest changed configuration and statistics responses
+	 */
+	private Map<String, String> derivedControlStatistics;
+
+	/**
+	 * Controllable properties populated from the latest changed configuration and statistics responses
+	 */
+	private ControllablePropertyRegistry derivedControllableProperties;
+
+	/**
+	 * Refresh interval of {@link SolsticeCommand#STATS_COMMAND} in seconds, 0 to request it on every polling cycle
+	 */
+	private long statisticsPollingInterval = SolsticeConstant.DEFAULT_POLLING_INTERVAL;
+
+	/**
+	 * Refresh interval of {@link SolsticeCommand#CONFIG_COMMAND} in seconds, 0 to request it on every polling cycle
+	 */
+	private long configurationPollingInterval = SolsticeConstant.DEFAULT_POLLING_INTERVAL;
+
+	/**
+	 * Refresh interval of {@link SolsticeCommand#GET_CURRENT_SESSION_COMMAND} in seconds, 0 to request it on every polling cycle
 	 */
-	private JsonNode configResponse;
+	private long activeRoutingPollingInterval = SolsticeConstant.DEFAULT_POLLING_INTERVAL;
 
 	/**
-	 * Holds the JSON response for statistical data.
+	 * Refresh interval of {@link SolsticeCommand#GET_LICENSING_COMMAND} in seconds, 0 to request it on every polling cycle
 	 */
-	private JsonNode statisticResponse;
+	private long licensingPollingInterval = SolsticeConstant.DEFAULT_POLLING_INTERVAL;
+
+	/**
+	 * Refresh interval of {@link SolsticeCommand#GET_CONNECTIONS_COMMAND} in seconds, 0 to request it on every polling cycle
+	 */
+	private long connectionsPollingInterval = SolsticeConstant.DEFAULT_POLLING_INTERVAL;
+
+	/**
+	 * Time budget of a whole polling cycle in milliseconds, 0 for no limit.
+	 * Each request gets the time remaining in the budget at most, the endpoints missing it keep their data of an earlier cycle.
+	 */
+	private long pollDeadline = SolsticeConstant.DEFAULT_POLL_DEADLINE;
+
+	/**
+	 * adaptivePolling imported from the user interface, enables the adaptive polling cadence
+	 */
+	private String adaptivePolling;
+
+	/**
+	 * Minimum interval between two requests of an endpoint after the first refresh finding the room idle, in seconds
+	 */
+	private long adaptivePollingIdleInterval = SolsticeConstant.DEFAULT_ADAPTIVE_POLLING_IDLE_INTERVAL;
+
+	/**
+	 * Highest minimum interval between two requests of an endpoint while the room stays idle, in seconds
+	 */
+	private long adaptivePollingCeiling = SolsticeConstant.DEFAULT_ADAPTIVE_POLLING_CEILING;
+
+	/**
+	 * Backs the polling off while the room is idle, null if {@link #adaptivePolling} is disabled
+	 */
+	private volatile AdaptivePollingCadence pollingCadence;
+
+	/**
+	 * Timeout of the requests of {@link SolsticeCommand#STATS_COMMAND} in milliseconds, 0 to use the adapter timeout
+	 */
+	private long statisticsTimeout;
+
+	/**
+	 * Timeout of the requests of {@link SolsticeCommand#CONFIG_COMMAND} in milliseconds, 0 to use the adapter timeout
+	 */
+	private long configurationTimeout;
+
+	/**
+	 * Timeout of the requests of {@link SolsticeCommand#GET_CURRENT_SESSION_COMMAND} and of the token request in milliseconds, 0 to use the adapter timeout
+	 */
+	private long activeRoutingTimeout;
+
+	/**
+	 * Timeout of the requests of {@link SolsticeCommand#GET_LICENSING_COMMAND} in milliseconds, 0 to use the adapter timeout
+	 */
+	private long licensingTimeout;
+
+	/**
+	 * Timeout of the requests of {@link SolsticeCommand#GET_CONNECTIONS_COMMAND} in milliseconds, 0 to use the adapter timeout
+	 */
+	private long connectionsTimeout;
+
+	/**
+	 * Timeout of the requests sent by the current monitoring thread in milliseconds, unset to use the adapter timeout
+	 */
+	private final ThreadLocal<Integer> requestTimeout = new ThreadLocal<>();
+
+	/**
+	 * Monitoring endpoints of the current polling cycle that have missed the {@link #pollDeadline} and kept their earlier data
+	 */
+	private final Set<String> staleEndpoints = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Monitoring endpoints of the current polling cycle that have returned a response
+	 */
+	private final Set<String> answeredEndpoints = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Monitoring endpoints of the current polling cycle that could not be reached: the connection has failed or the {@link #pollDeadline} was missed
+	 */
+	private final Set<String> unreachableEndpoints = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * include hour value array.
@@ -173,19 +408,119 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	private String[] minutesValueArray;
 
 	/**
-	 * count the failed command
+	 * count the failed command, mapped to its error message
+	 */
+	private final Map<String, String> failedMonitor = new ConcurrentHashMap<>();
+
+	/**
+	 * Bounded executor used to send the monitoring requests of a polling cycle concurrently
 	 */
-	private final Map<String, String> failedMonitor = new HashMap<>();
+	private ExecutorService monitoringExecutor;
 
 	/**
 	 * localExtendedStatistics represents the extended statistics object.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private volatile ExtendedStatistics localExtendedStatistics;
+
+	/**
+	 * Time the {@link #localExtendedStatistics} were last refreshed from the device
+	 */
+	private volatile long lastMonitoringUpdate;
+
+	/**
+	 * Error of the latest background refresh, null if it succeeded
+	 */
+	private volatile Exception backgroundRefreshError;
+
+	/**
+	 * Scheduler running the background refresh loop, null if background polling is disabled
+	 */
+	private ScheduledExecutorService backgroundPollingScheduler;
+
+	/**
+	 * Staggers the background refresh cycles with a deterministic offset derived from the host, null if background polling is disabled
+	 */
+	private volatile StaggeredPollScheduler backgroundPollScheduler;
+
+	/**
+	 * backgroundPolling imported from the user interface
+	 */
+	private String backgroundPolling;
+
+	/**
+	 * pollInstrumentation imported from the user interface, enables the timing of the polling phases
+	 */
+	private String pollInstrumentation;
+
+	/**
+	 * Records the duration of the polling phases, null if {@link #pollInstrumentation} is disabled
+	 */
+	private volatile PollInstrumentation instrumentation;
+
+	/**
+	 * Path of the log the requests and responses are captured to, empty to disable the capture
+	 */
+	private String trafficCaptureFile;
+
+	/**
+	 * Path of a capture log replayed in place of the device, empty to send the requests to the device
+	 */
+	private String trafficReplayFile;
+
+	/**
+	 * Factor applied to the captured durations when replaying {@link #trafficReplayFile}, 1 for the original timing, 0 for no delay
+	 */
+	private double trafficReplayTimeScale = SolsticeConstant.DEFAULT_TRAFFIC_REPLAY_TIME_SCALE;
+
+	/**
+	 * Writes the requests and responses to {@link #trafficCaptureFile}, null if the capture is disabled
+	 */
+	private volatile TrafficCapture trafficCapture;
+
+	/**
+	 * Serves the responses of {@link #trafficReplayFile}, null if the requests are sent to the device
+	 */
+	private volatile TrafficReplay trafficReplay;
+
+	/**
+	 * Interval between two background refresh cycles in seconds
+	 */
+	private long backgroundPollingInterval = SolsticeConstant.DEFAULT_BACKGROUND_POLLING_INTERVAL;
+
+	/**
+	 * Debounce window of the numeric and text controls in milliseconds, 0 to send every change immediately
+	 */
+	private long controlDebounceWindow = SolsticeConstant.DEFAULT_CONTROL_DEBOUNCE_WINDOW;
+
+	/**
+	 * Scheduler sending the debounced control writes, null if the debounce window is 0
+	 */
+	private ScheduledExecutorService controlWriteScheduler;
+
+	/**
+	 * Debounced writes waiting to be sent, mapped by controllable property name
+	 */
+	private final Map<String, DebouncedConfigWrite> debouncedWrites = new ConcurrentHashMap<>();
+
+	/**
+	 * Error of the latest failed debounced write, mapped by controllable property name
+	 */
+	private final Map<String, String> controlWriteErrors = new ConcurrentHashMap<>();
+
+	/**
+	 * Changes made by the controls since the start of the oldest polling cycle that may still be in flight, in control order
+	 */
+	private final List<ControlOverride> controlOverrides = new ArrayList<>();
+
+	/**
+	 * Sequence number of the latest published control
+	 */
+	private long controlSequence;
 
 	/**
 	 * isEmergencyDelivery indicates whether it is an emergency delivery.
 	 */
-	private boolean isEmergencyDelivery;
+	private volatile boolean isEmergencyDelivery;
 
 	/**
 	 * configManagement imported from the user interface
@@ -198,25 +533,46 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	private boolean isConfigManagement;
 
 	/**
-	 * token for each Active Routing request
+	 * Port of the /api endpoints, the v2 endpoints use the adapter port
 	 */
-	private String token;
+	private int apiPort = SolsticeConstant.HTTPS_PORT;
 
 	/**
-	 * save time get token
+	 * Keeps the token of the Active Routing requests valid
 	 */
-	private Long tokenExpire;
+	private ApiTokenManager apiTokenManager;
 
 	/**
-	 * time the token expires
+	 * Scheduler of the proactive token refreshes
 	 */
-	private Long expiresIn = 3000L * 1000;
+	private ScheduledExecutorService tokenRefreshScheduler;
 
 	/**
 	 * ping Mode for the adapter
 	 */
 	private PingMode pingMode = PingMode.ICMP;
 
+	/**
+	 * Latency distribution of the latest successful TCP ping
+	 */
+	private volatile PingResult latestPingResult;
+
+	/**
+	 * Keep-alive connection pool to the device, created with the first request
+	 */
+	private PooledHttpClient pooledHttpClient;
+
+	/**
+	 * RestTemplate sending the requests over {@link #pooledHttpClient}
+	 */
+	private RestTemplate pooledRestTemplate;
+
+	/**
+	 * Stops the polling of an unreachable device until a probe finds it reachable again
+	 */
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker(SolsticeConstant.CIRCUIT_FAILURE_THRESHOLD,
+			TimeUnit.SECONDS.toMillis(SolsticeConstant.CIRCUIT_INITIAL_BACKOFF), TimeUnit.SECONDS.toMillis(SolsticeConstant.CIRCUIT_MAX_BACKOFF));
+
 	/**
 	 * Constructs a new SolsticePodGen3Communicator instance.
 	 *
@@ -225,8 +581,10 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	public SolsticePodGen3Communicator() throws IOException {
 		super();
 		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(SolsticeConstant.FILE_MAPPING, getClass());
-		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		monitoringResponseParser = new StreamingResponseParser(objectMapper, ModelMappingExtractor.fromMapping(mapping).getPropertyPaths(),
+				SolsticeConstant.SYSTEM_CURATION, SolsticeConstant.TIME_ZONES);
 		this.setTrustAllCertificates(true);
+		this.setMaxConnectionsPerRoute(SolsticeConstant.MONITORING_THREAD_POOL_SIZE);
 	}
 
 	/**
@@ -247,6 +605,30 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 		this.configManagement = configManagement;
 	}
 
+	/**
+	 * Retrieves {@link #apiPort}
+	 *
+	 * @return value of {@link #apiPort}
+	 */
+	public String getApiPort() {
+		return String.valueOf(apiPort);
+	}
+
+	/**
+	 * Sets {@link #apiPort} value
+	 *
+	 * @param apiPort new value of {@link #apiPort}, {@link SolsticeConstant#HTTPS_PORT} if it is not a valid port
+	 */
+	public void setApiPort(String apiPort) {
+		try {
+			int port = Integer.parseInt(apiPort.trim());
+			this.apiPort = port > 0 && port <= SolsticeConstant.MAX_PORT ? port : SolsticeConstant.HTTPS_PORT;
+		} catch (Exception e) {
+			logger.debug("Invalid API port " + apiPort);
+			this.apiPort = SolsticeConstant.HTTPS_PORT;
+		}
+	}
+
 	/**
 	 * Retrieves {@link #pingMode}
 	 *
@@ -266,110 +648,503 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves {@link #statisticsPollingInterval}
+	 *
+	 * @return value of {@link #statisticsPollingInterval}
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			Map<String, String> stats = new HashMap<>();
-			Map<String, String> controlStats = new HashMap<>();
-			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-			if (!isEmergencyDelivery) {
-				convertConfigManagement();
-				failedMonitor.clear();
-				retrieveStatisticsCommand();
-				retrieveConfigurationCommand();
-				if (failedMonitor.size() == SolsticeConstant.NO_OF_MONITORING_COMMAND) {
-					StringBuilder stringBuilder = new StringBuilder();
-					stringBuilder.append(failedMonitor.get(SolsticeCommand.STATS_COMMAND)).append(failedMonitor.get(SolsticeCommand.CONFIG_COMMAND));
-					throw new ResourceNotReachableException("Get monitoring data failed: " + stringBuilder);
-				}
-				retrieveAndPopulateActiveRouting(stats);
-				updateLocalCaching();
-				populateMonitoringAndControllingData(stats, controlStats, advancedControllableProperties);
-				if (isConfigManagement) {
-					extendedStatistics.setControllableProperties(advancedControllableProperties);
-					stats.putAll(controlStats);
-				}
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
-			}
-			isEmergencyDelivery = false;
-		} finally {
-			reentrantLock.unlock();
-		}
-		return Collections.singletonList(localExtendedStatistics);
+	public String getStatisticsPollingInterval() {
+		return String.valueOf(statisticsPollingInterval);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #statisticsPollingInterval} value
+	 *
+	 * @param statisticsPollingInterval new value of {@link #statisticsPollingInterval}
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			if (localExtendedStatistics == null) {
-				return;
-			}
-			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-			String value = String.valueOf(controllableProperty.getValue());
-			String property = controllableProperty.getProperty();
+	public void setStatisticsPollingInterval(String statisticsPollingInterval) {
+		this.statisticsPollingInterval = convertPollingInterval(statisticsPollingInterval);
+	}
 
-			String[] propertyList = property.split(SolsticeConstant.HASH);
-			String propertyKey = property;
-			if (property.contains(SolsticeConstant.HASH)) {
-				propertyKey = propertyList[1];
-			}
-			SolsticePropertiesList propertyItem = SolsticePropertiesList.getByName(propertyKey);
-			switch (propertyItem) {
-				case SET_DEFAULT_BACKGROUND:
-					sendCommandSetDefaultBackground();
-					break;
-				case USE_24_HOUR_TIME_FORMAT:
-					boolean status = convertNumberToBoolean(value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, status);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, String.valueOf(status));
+	/**
+	 * Retrieves {@link #configurationPollingInterval}
+	 *
+	 * @return value of {@link #configurationPollingInterval}
+	 */
+	public String getConfigurationPollingInterval() {
+		return String.valueOf(configurationPollingInterval);
+	}
 
-					String zone = getTimeZoneNameById(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME_ZONE)).split(SolsticeConstant.COMMA)[0];
-					String timeFormat = SolsticeConstant.TIME_12H_FORMAT;
-					if (status) {
-						timeFormat = SolsticeConstant.TIME_24H_FORMAT;
-					}
-					stats.put(SolsticeConstant.TIME, getDateTimeFromFormattedString(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME), timeFormat, zone));
-					break;
-				case IOS_MIRRORING:
-					status = convertNumberToBoolean(value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, status);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, String.valueOf(status));
-					String name = SolsticeConstant.RESOURCE_RESTRICTION_GROUP.concat(SolsticeConstant.AIR_PLAY_DISCOVERY_PROXY);
-					if (status) {
-						addAdvanceControlProperties(advancedControllableProperties, stats,
-								createSwitch(name, convertBooleanToNumber(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.AIR_PLAY_DISCOVERY_PROXY)),
-										SolsticeConstant.OFF, SolsticeConstant.ON), value);
-					} else {
-						removeValueForTheControllableProperty(name, stats, advancedControllableProperties);
-					}
+	/**
+	 * Sets {@link #configurationPollingInterval} value
+	 *
+	 * @param configurationPollingInterval new value of {@link #configurationPollingInterval}
+	 */
+	public void setConfigurationPollingInterval(String configurationPollingInterval) {
+		this.configurationPollingInterval = convertPollingInterval(configurationPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #activeRoutingPollingInterval}
+	 *
+	 * @return value of {@link #activeRoutingPollingInterval}
+	 */
+	public String getActiveRoutingPollingInterval() {
+		return String.valueOf(activeRoutingPollingInterval);
+	}
+
+	/**
+	 * Sets {@link #activeRoutingPollingInterval} value
+	 *
+	 * @param activeRoutingPollingInterval new value of {@link #activeRoutingPollingInterval}
+	 */
+	public void setActiveRoutingPollingInterval(String activeRoutingPollingInterval) {
+		this.activeRoutingPollingInterval = convertPollingInterval(activeRoutingPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #licensingPollingInterval}
+	 *
+	 * @return value of {@link #licensingPollingInterval}
+	 */
+	public String getLicensingPollingInterval() {
+		return String.valueOf(licensingPollingInterval);
+	}
+
+	/**
+	 * Sets {@link #licensingPollingInterval} value
+	 *
+	 * @param licensingPollingInterval new value of {@link #licensingPollingInterval}
+	 */
+	public void setLicensingPollingInterval(String licensingPollingInterval) {
+		this.licensingPollingInterval = convertPollingInterval(licensingPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #connectionsPollingInterval}
+	 *
+	 * @return value of {@link #connectionsPollingInterval}
+	 */
+	public String getConnectionsPollingInterval() {
+		return String.valueOf(connectionsPollingInterval);
+	}
+
+	/**
+	 * Sets {@link #connectionsPollingInterval} value
+	 *
+	 * @param connectionsPollingInterval new value of {@link #connectionsPollingInterval}
+	 */
+	public void setConnectionsPollingInterval(String connectionsPollingInterval) {
+		this.connectionsPollingInterval = convertPollingInterval(connectionsPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #pollDeadline}
+	 *
+	 * @return value of {@link #pollDeadline}
+	 */
+	public String getPollDeadline() {
+		return String.valueOf(pollDeadline);
+	}
+
+	/**
+	 * Sets {@link #pollDeadline} value
+	 *
+	 * @param pollDeadline new value of {@link #pollDeadline}, in milliseconds
+	 */
+	public void setPollDeadline(String pollDeadline) {
+		this.pollDeadline = convertMilliseconds(pollDeadline);
+	}
+
+	/**
+	 * Retrieves {@link #adaptivePolling}
+	 *
+	 * @return value of {@link #adaptivePolling}
+	 */
+	public String getAdaptivePolling() {
+		return adaptivePolling;
+	}
+
+	/**
+	 * Sets {@link #adaptivePolling} value
+	 *
+	 * @param adaptivePolling new value of {@link #adaptivePolling}
+	 */
+	public void setAdaptivePolling(String adaptivePolling) {
+		this.adaptivePolling = adaptivePolling;
+	}
+
+	/**
+	 * Retrieves {@link #adaptivePollingIdleInterval}
+	 *
+	 * @return value of {@link #adaptivePollingIdleInterval}
+	 */
+	public String getAdaptivePollingIdleInterval() {
+		return String.valueOf(adaptivePollingIdleInterval);
+	}
+
+	/**
+	 * Sets {@link #adaptivePollingIdleInterval} value
+	 *
+	 * @param adaptivePollingIdleInterval new value of {@link #adaptivePollingIdleInterval}
+	 */
+	public void setAdaptivePollingIdleInterval(String adaptivePollingIdleInterval) {
+		long interval = convertPollingInterval(adaptivePollingIdleInterval);
+		this.adaptivePollingIdleInterval = interval > 0 ? interval : SolsticeConstant.DEFAULT_ADAPTIVE_POLLING_IDLE_INTERVAL;
+	}
+
+	/**
+	 * Retrieves {@link #adaptivePollingCeiling}
+	 *
+	 * @return value of {@link #adaptivePollingCeiling}
+	 */
+	public String getAdaptivePollingCeiling() {
+		return String.valueOf(adaptivePollingCeiling);
+	}
+
+	/**
+	 * Sets {@link #adaptivePollingCeiling} value
+	 *
+	 * @param adaptivePollingCeiling new value of {@link #adaptivePollingCeiling}
+	 */
+	public void setAdaptivePollingCeiling(String adaptivePollingCeiling) {
+		long interval = convertPollingInterval(adaptivePollingCeiling);
+		this.adaptivePollingCeiling = interval > 0 ? interval : SolsticeConstant.DEFAULT_ADAPTIVE_POLLING_CEILING;
+	}
+
+	/**
+	 * Retrieves {@link #statisticsTimeout}
+	 *
+	 * @return value of {@link #statisticsTimeout}
+	 */
+	public String getStatisticsTimeout() {
+		return String.valueOf(statisticsTimeout);
+	}
+
+	/**
+	 * Sets {@link #statisticsTimeout} value
+	 *
+	 * @param statisticsTimeout new value of {@link #statisticsTimeout}, in milliseconds
+	 */
+	public void setStatisticsTimeout(String statisticsTimeout) {
+		this.statisticsTimeout = convertMilliseconds(statisticsTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #configurationTimeout}
+	 *
+	 * @return value of {@link #configurationTimeout}
+	 */
+	public String getConfigurationTimeout() {
+		return String.valueOf(configurationTimeout);
+	}
+
+	/**
+	 * Sets {@link #configurationTimeout} value
+	 *
+	 * @param configurationTimeout new value of {@link #configurationTimeout}, in milliseconds
+	 */
+	public void setConfigurationTimeout(String configurationTimeout) {
+		this.configurationTimeout = convertMilliseconds(configurationTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #activeRoutingTimeout}
+	 *
+	 * @return value of {@link #activeRoutingTimeout}
+	 */
+	public String getActiveRoutingTimeout() {
+		return String.valueOf(activeRoutingTimeout);
+	}
+
+	/**
+	 * Sets {@link #activeRoutingTimeout} value
+	 *
+	 * @param activeRoutingTimeout new value of {@link #activeRoutingTimeout}, in milliseconds
+	 */
+	public void setActiveRoutingTimeout(String activeRoutingTimeout) {
+		this.activeRoutingTimeout = convertMilliseconds(activeRoutingTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #licensingTimeout}
+	 *
+	 * @return value of {@link #licensingTimeout}
+	 */
+	public String getLicensingTimeout() {
+		return String.valueOf(licensingTimeout);
+	}
+
+	/**
+	 * Sets {@link #licensingTimeout} value
+	 *
+	 * @param licensingTimeout new value of {@link #licensingTimeout}, in milliseconds
+	 */
+	public void setLicensingTimeout(String licensingTimeout) {
+		this.licensingTimeout = convertMilliseconds(licensingTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #connectionsTimeout}
+	 *
+	 * @return value of {@link #connectionsTimeout}
+	 */
+	public String getConnectionsTimeout() {
+		return String.valueOf(connectionsTimeout);
+	}
+
+	/**
+	 * Sets {@link #connectionsTimeout} value
+	 *
+	 * @param connectionsTimeout new value of {@link #connectionsTimeout}, in milliseconds
+	 */
+	public void setConnectionsTimeout(String connectionsTimeout) {
+		this.connectionsTimeout = convertMilliseconds(connectionsTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #backgroundPolling}
+	 *
+	 * @return value of {@link #backgroundPolling}
+	 */
+	public String getBackgroundPolling() {
+		return backgroundPolling;
+	}
+
+	/**
+	 * Sets {@link #backgroundPolling} value
+	 *
+	 * @param backgroundPolling new value of {@link #backgroundPolling}
+	 */
+	public void setBackgroundPolling(String backgroundPolling) {
+		this.backgroundPolling = backgroundPolling;
+	}
+
+	/**
+	 * Retrieves {@link #pollInstrumentation}
+	 *
+	 * @return value of {@link #pollInstrumentation}
+	 */
+	public String getPollInstrumentation() {
+		return pollInstrumentation;
+	}
+
+	/**
+	 * Sets {@link #pollInstrumentation} value
+	 *
+	 * @param pollInstrumentation new value of {@link #pollInstrumentation}
+	 */
+	public void setPollInstrumentation(String pollInstrumentation) {
+		this.pollInstrumentation = pollInstrumentation;
+	}
+
+	/**
+	 * Retrieves {@link #trafficCaptureFile}
+	 *
+	 * @return value of {@link #trafficCaptureFile}
+	 */
+	public String getTrafficCaptureFile() {
+		return trafficCaptureFile;
+	}
+
+	/**
+	 * Sets {@link #trafficCaptureFile} value
+	 *
+	 * @param trafficCaptureFile new value of {@link #trafficCaptureFile}
+	 */
+	public void setTrafficCaptureFile(String trafficCaptureFile) {
+		this.trafficCaptureFile = trafficCaptureFile;
+	}
+
+	/**
+	 * Retrieves {@link #trafficReplayFile}
+	 *
+	 * @return value of {@link #trafficReplayFile}
+	 */
+	public String getTrafficReplayFile() {
+		return trafficReplayFile;
+	}
+
+	/**
+	 * Sets {@link #trafficReplayFile} value
+	 *
+	 * @param trafficReplayFile new value of {@link #trafficReplayFile}
+	 */
+	public void setTrafficReplayFile(String trafficReplayFile) {
+		this.trafficReplayFile = trafficReplayFile;
+	}
+
+	/**
+	 * Retrieves {@link #trafficReplayTimeScale}
+	 *
+	 * @return value of {@link #trafficReplayTimeScale}
+	 */
+	public String getTrafficReplayTimeScale() {
+		return String.valueOf(trafficReplayTimeScale);
+	}
+
+	/**
+	 * Sets {@link #trafficReplayTimeScale} value
+	 *
+	 * @param trafficReplayTimeScale new value of {@link #trafficReplayTimeScale}, {@link SolsticeConstant#DEFAULT_TRAFFIC_REPLAY_TIME_SCALE} if it is not a valid factor
+	 */
+	public void setTrafficReplayTimeScale(String trafficReplayTimeScale) {
+		try {
+			double timeScale = Double.parseDouble(trafficReplayTimeScale.trim());
+			this.trafficReplayTimeScale = timeScale >= 0 ? timeScale : SolsticeConstant.DEFAULT_TRAFFIC_REPLAY_TIME_SCALE;
+		} catch (Exception e) {
+			logger.debug("Invalid traffic replay time scale " + trafficReplayTimeScale);
+			this.trafficReplayTimeScale = SolsticeConstant.DEFAULT_TRAFFIC_REPLAY_TIME_SCALE;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #backgroundPollingInterval}
+	 *
+	 * @return value of {@link #backgroundPollingInterval}
+	 */
+	public String getBackgroundPollingInterval() {
+		return String.valueOf(backgroundPollingInterval);
+	}
+
+	/**
+	 * Sets {@link #backgroundPollingInterval} value
+	 *
+	 * @param backgroundPollingInterval new value of {@link #backgroundPollingInterval}
+	 */
+	public void setBackgroundPollingInterval(String backgroundPollingInterval) {
+		long interval = convertPollingInterval(backgroundPollingInterval);
+		this.backgroundPollingInterval = interval > 0 ? interval : SolsticeConstant.DEFAULT_BACKGROUND_POLLING_INTERVAL;
+	}
+
+	/**
+	 * Retrieves {@link #controlDebounceWindow}
+	 *
+	 * @return value of {@link #controlDebounceWindow}
+	 */
+	public String getControlDebounceWindow() {
+		return String.valueOf(controlDebounceWindow);
+	}
+
+	/**
+	 * Sets {@link #controlDebounceWindow} value
+	 *
+	 * @param controlDebounceWindow new value of {@link #controlDebounceWindow}, in milliseconds
+	 */
+	public void setControlDebounceWindow(String controlDebounceWindow) {
+		this.controlDebounceWindow = convertMilliseconds(controlDebounceWindow);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * When background polling is enabled the latest snapshot refreshed by the background loop is returned immediately,
+	 * together with the time it was retrieved from the device.
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		if (backgroundPollingScheduler != null) {
+			return Collections.singletonList(getBackgroundSnapshot());
+		}
+		long lockStartTime = startPhase();
+		reentrantLock.lock();
+		recordPhase(SolsticeConstant.POLL_LOCK_WAIT_PHASE, lockStartTime);
+		try {
+			if (!isEmergencyDelivery) {
+				refreshMonitoringData();
+			}
+			isEmergencyDelivery = false;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		if (circuitBreaker.getState() != CircuitState.CLOSED) {
+			throw new ResourceNotReachableException(String.format("The device is unreachable, unable to control property %s until the next probe at %s", controllableProperty.getProperty(),
+					new Date(circuitBreaker.getNextProbeTime())));
+		}
+		AdaptivePollingCadence cadence = pollingCadence;
+		if (cadence != null) {
+			cadence.recordActivity();
+		}
+		long lockStartTime = startPhase();
+		controlLock.lock();
+		recordPhase(SolsticeConstant.CONTROL_LOCK_WAIT_PHASE, lockStartTime);
+		try {
+			if (localExtendedStatistics == null) {
+				return;
+			}
+			isEmergencyDelivery = true;
+			ExtendedStatistics currentStatistics = this.localExtendedStatistics;
+			ControllablePropertyRegistry currentControllableProperties = localControllableProperties == null ? new ControllablePropertyRegistry() : localControllableProperties;
+			Map<String, String> currentCachedValues = localCacheMapOfPropertyNameAndValue;
+			Map<String, String> cachedValues = new HashMap<>(currentCachedValues);
+			Map<String, String> stats = new HashMap<>(currentStatistics.getStatistics());
+			ControllablePropertyRegistry advancedControllableProperties = new ControllablePropertyRegistry(currentControllableProperties);
+			String value = String.valueOf(controllableProperty.getValue());
+			String property = controllableProperty.getProperty();
+
+			String[] propertyList = property.split(SolsticeConstant.HASH);
+			String propertyKey = property;
+			if (property.contains(SolsticeConstant.HASH)) {
+				propertyKey = propertyList[1];
+			}
+			SolsticePropertiesList propertyItem = SolsticePropertiesList.getByName(propertyKey);
+			Set<PendingConfigWrite> queuedWrites = Collections.newSetFromMap(new IdentityHashMap<>());
+			if (pendingConfigWrites != null) {
+				queuedWrites.addAll(pendingConfigWrites.values());
+			}
+			switch (propertyItem) {
+				case SET_DEFAULT_BACKGROUND:
+					sendCommandSetDefaultBackground();
 					break;
-				case SCHEDULED_DAILY_REBOOT:
+				case USE_24_HOUR_TIME_FORMAT:
+					boolean status = convertNumberToBoolean(value);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, status);
+					updateCachedDeviceData(cachedValues, propertyKey, String.valueOf(status));
+
+					String zone = getTimeZoneNameById(cachedValues.get(SolsticeConstant.TIME_ZONE)).split(SolsticeConstant.COMMA)[0];
+					String timeFormat = SolsticeConstant.TIME_12H_FORMAT;
+					if (status) {
+						timeFormat = SolsticeConstant.TIME_24H_FORMAT;
+					}
+					stats.put(SolsticeConstant.TIME, getDateTimeFromFormattedString(cachedValues.get(SolsticeConstant.TIME), timeFormat, zone));
+					break;
+				case IOS_MIRRORING:
 					status = convertNumberToBoolean(value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, status);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, String.valueOf(status));
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, status);
+					updateCachedDeviceData(cachedValues, propertyKey, String.valueOf(status));
+					String name = SolsticeConstant.RESOURCE_RESTRICTION_GROUP.concat(SolsticeConstant.AIR_PLAY_DISCOVERY_PROXY);
 					if (status) {
-						if (minutesValueArray == null) {
-							minutesValueArray = createArrayNumber(0, 59);
-						}
+						addAdvanceControlProperties(advancedControllableProperties, stats,
+								createSwitch(name, convertBooleanToNumber(cachedValues.get(SolsticeConstant.AIR_PLAY_DISCOVERY_PROXY)),
+										SolsticeConstant.OFF, SolsticeConstant.ON), value);
+					} else {
+						removeValueForTheControllableProperty(name, stats, advancedControllableProperties);
+					}
+					break;
+				case SCHEDULED_DAILY_REBOOT:
+					status = convertNumberToBoolean(value);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, status);
+					updateCachedDeviceData(cachedValues, propertyKey, String.valueOf(status));
+					if (status) {
+						if (minutesValueArray == null) {
+							minutesValueArray = createArrayNumber(0, 59);
+						}
 						if (hoursValueArray == null) {
 							hoursValueArray = createArrayNumber(0, 23);
 						}
 						addAdvanceControlProperties(advancedControllableProperties, stats,
-								createDropdown(SolsticeConstant.REBOOT_SCHEDULING_GROUP.concat(SolsticeConstant.MINUTE), minutesValueArray, localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.MINUTE)),
+								createDropdown(SolsticeConstant.REBOOT_SCHEDULING_GROUP.concat(SolsticeConstant.MINUTE), minutesValueArray, cachedValues.get(SolsticeConstant.MINUTE)),
 								value);
 						addAdvanceControlProperties(advancedControllableProperties, stats,
-								createDropdown(SolsticeConstant.REBOOT_SCHEDULING_GROUP.concat(SolsticeConstant.HOUR), hoursValueArray, localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.HOUR)),
+								createDropdown(SolsticeConstant.REBOOT_SCHEDULING_GROUP.concat(SolsticeConstant.HOUR), hoursValueArray, cachedValues.get(SolsticeConstant.HOUR)),
 								value);
 					} else {
 						removeValueForTheControllableProperty(SolsticeConstant.REBOOT_SCHEDULING_GROUP.concat(SolsticeConstant.MINUTE), stats, advancedControllableProperties);
@@ -378,8 +1153,8 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 					break;
 				case SCREEN_KEY:
 					status = convertNumberToBoolean(value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, status);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, String.valueOf(status));
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, status);
+					updateCachedDeviceData(cachedValues, propertyKey, String.valueOf(status));
 					if (SolsticeConstant.NUMBER_ONE.equals(value)) {
 						stats.put(SolsticeConstant.ACCESS_CONTROL_GROUP + SolsticePropertiesList.KEY.getName(), getScreenKey());
 					} else {
@@ -395,8 +1170,8 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 				case PUBLISH_DISPLAY_NAME:
 				case BROADCAST_DISPLAY_NAME:
 					status = convertNumberToBoolean(value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, status);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, String.valueOf(status));
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, status);
+					updateCachedDeviceData(cachedValues, propertyKey, String.valueOf(status));
 					break;
 				case SCREEN_KEY_ON_MAIN_SCREEN:
 				case SCREEN_KEY_ON_PRESENCE_BAR:
@@ -406,77 +1181,80 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 				case HOST_IP_ADDRESS_ON_PRESENCE_BAR:
 					status = convertNumberToBoolean(value);
 					ScreenCustomizationEnum customizationEnum = ScreenCustomizationEnum.getEnumByName(propertyKey);
-					long valueRequest = changeBit(Long.parseLong(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.SCREEN_CUSTOMIZATION)), status, Integer.parseInt(customizationEnum.getValue()));
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, valueRequest);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, SolsticeConstant.SCREEN_CUSTOMIZATION, String.valueOf(valueRequest));
+					long valueRequest = changeBit(Long.parseLong(cachedValues.get(SolsticeConstant.SCREEN_CUSTOMIZATION)), status, Integer.parseInt(customizationEnum.getValue()));
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, valueRequest);
+					updateCachedDeviceData(cachedValues, SolsticeConstant.SCREEN_CUSTOMIZATION, String.valueOf(valueRequest));
 					break;
 				case REBOOT_TIME_OF_DAY_HOUR:
-					String minute = localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.MINUTE);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, convertTo24hFormat(value, minute));
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, value);
+					String minute = cachedValues.get(SolsticeConstant.MINUTE);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, convertTo24hFormat(value, minute));
+					updateCachedDeviceData(cachedValues, propertyKey, value);
 					break;
 				case REBOOT_TIME_OF_DAY_MINUTE:
-					String hour = localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.HOUR);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, convertTo24hFormat(hour, value));
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, value);
+					String hour = cachedValues.get(SolsticeConstant.HOUR);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, convertTo24hFormat(hour, value));
+					updateCachedDeviceData(cachedValues, propertyKey, value);
 					break;
 				case TIME_ZONE:
 					String zoneId = getIdByTimeZoneName(value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, zoneId);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, zoneId);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, zoneId);
+					updateCachedDeviceData(cachedValues, propertyKey, zoneId);
 
 					zone = getTimeZoneNameById(zoneId).split(SolsticeConstant.COMMA)[0];
 					timeFormat = SolsticeConstant.TIME_12H_FORMAT;
-					if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.USE_24_HOUR_TIME_FORMAT))) {
+					if (SolsticeConstant.TRUE.equals(cachedValues.get(SolsticeConstant.USE_24_HOUR_TIME_FORMAT))) {
 						timeFormat = SolsticeConstant.TIME_24H_FORMAT;
 					}
-					stats.put(SolsticeConstant.TIME, getDateTimeFromFormattedString(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME), timeFormat, zone));
-					stats.put(SolsticeConstant.DATE, getDateTimeFromFormattedString(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.DATE), timeFormat, zone));
+					stats.put(SolsticeConstant.TIME, getDateTimeFromFormattedString(cachedValues.get(SolsticeConstant.TIME), timeFormat, zone));
+					stats.put(SolsticeConstant.DATE, getDateTimeFromFormattedString(cachedValues.get(SolsticeConstant.DATE), timeFormat, zone));
 					break;
 				case LANGUAGE:
 					String languageId = EnumTypeHandler.getValueByName(LanguageEnum.class, value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, languageId);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, languageId);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, languageId);
+					updateCachedDeviceData(cachedValues, propertyKey, languageId);
 
-					retrieveConfigurationCommand();
-					getAllAvailableTimeZones();
-					String[] timeZoneVales = availableTimeZones.stream().map(TimeZone::getName).toArray(String[]::new);
+					try {
+						getAllAvailableTimeZones(fetchConfiguration());
+					} catch (Exception e) {
+						logger.error("Error when retrieve configuration command", e);
+					}
+					String[] timeZoneVales = timeZoneCatalogue.getNames();
 					removeValueForTheControllableProperty(SolsticeConstant.TIME_ZONE, stats, advancedControllableProperties);
 					addAdvanceControlProperties(advancedControllableProperties, stats,
-							createDropdown(SolsticeConstant.TIME_ZONE, timeZoneVales, getTimeZoneNameById(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME_ZONE))), value);
+							createDropdown(SolsticeConstant.TIME_ZONE, timeZoneVales, getTimeZoneNameById(cachedValues.get(SolsticeConstant.TIME_ZONE))), value);
 					break;
 				case HDMI_OUTPUT_MODE:
 					String number = EnumTypeHandler.getValueByName(HDMIOutputEnum.class, value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, Integer.parseInt(number));
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, number);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, Integer.parseInt(number));
+					updateCachedDeviceData(cachedValues, propertyKey, number);
 					break;
 				case BROWSER_LOOK_IN:
 					number = EnumTypeHandler.getValueByName(BrowserLookInEnum.class, value);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, Integer.parseInt(number));
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, number);
+					sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), propertyItem, Integer.parseInt(number));
+					updateCachedDeviceData(cachedValues, propertyKey, number);
 					break;
 				case MAX_CONNECTIONS:
 					long newValue = checkValidInput(SolsticeConstant.MIN_CONNECTIONS, SolsticeConstant.MAX_CONNECTIONS, value);
 					value = String.valueOf(newValue);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, newValue);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, value);
+					writeConfigValue(property, propertyItem, newValue, value);
+					updateCachedDeviceData(cachedValues, propertyKey, value);
 					break;
 				case MAX_POSTS:
 					newValue = checkValidInput(SolsticeConstant.MIN_POSTS, SolsticeConstant.MAX_POSTS, value);
 					value = String.valueOf(newValue);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, newValue);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, value);
+					writeConfigValue(property, propertyItem, newValue, value);
+					updateCachedDeviceData(cachedValues, propertyKey, value);
 					break;
 				case AUTOMATICALLY_RESIZE_IMAGES:
 					long bytesValue = convertMPixelsToByte(value);
 					value = String.valueOf(bytesValue);
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, bytesValue);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, value);
+					writeConfigValue(property, propertyItem, bytesValue, calculateMPixels(value));
+					updateCachedDeviceData(cachedValues, propertyKey, value);
 					value = calculateMPixels(value);
 					break;
 				case DISPLAY_NAME:
-					sendPostRequest(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), propertyItem, value);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, propertyKey, value);
+					writeConfigValue(property, propertyItem, value, value);
+					updateCachedDeviceData(cachedValues, propertyKey, value);
 					break;
 				case CLIENT_QUICK_CONNECT_ACTION:
 					boolean autoConnectOnClientLaunch = false;
@@ -487,145 +1265,1117 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 						rootNode.put(SolsticeConstant.PASSWORD, this.getPassword());
 					}
 
-					if (SolsticeConstant.AUTO_CONNECT.equals(value)) {
-						autoConnectOnClientLaunch = true;
-					} else if (SolsticeConstant.AUTO_SDS.equals(value)) {
-						autoSDSOnClientLaunch = true;
-					}
+					if (SolsticeConstant.AUTO_CONNECT.equals(value)) {
+						autoConnectOnClientLaunch = true;
+					} else if (SolsticeConstant.AUTO_SDS.equals(value)) {
+						autoSDSOnClientLaunch = true;
+					}
+
+					valueNode.put(SolsticeConstant.AUTO_CONNECT_ON_CLIENT_LAUNCH, autoConnectOnClientLaunch);
+					valueNode.put(SolsticeConstant.AUTO_SDS_ON_CLIENT_LAUNCH, autoSDSOnClientLaunch);
+					rootNode.put(SolsticeConstant.GENERAL_CURATION, valueNode);
+					sendCommandClientQuickConnectAction(rootNode);
+					updateCachedDeviceData(cachedValues, SolsticeConstant.LAUNCH_CLIENT_AND_AUTO_CONNECT, String.valueOf(autoConnectOnClientLaunch));
+					updateCachedDeviceData(cachedValues, SolsticeConstant.LAUNCH_CLIENT_AND_AUTOMATICALLY_SDS, String.valueOf(autoSDSOnClientLaunch));
+					break;
+				default:
+					logger.debug(String.format("Property name %s doesn't support", propertyKey));
+			}
+			endpointRefreshTimes.remove(SolsticeCommand.CONFIG_COMMAND);
+			derivedStatistics = null;
+			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
+			if (pendingConfigWrites != null) {
+				recordQueuedWrites(property, queuedWrites, new ControlOverride(controlSequence, diff(stats, currentStatistics.getStatistics()),
+						diff(cachedValues, currentCachedValues), diff(advancedControllableProperties.asMap(), currentControllableProperties.asMap())));
+			}
+			publishControlSnapshot(stats, advancedControllableProperties, cachedValues);
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Publishes the snapshot updated by a control, and records the changes so that the polling cycle running meanwhile keeps them.
+	 * Must be called with {@link #controlLock} held.
+	 *
+	 * @param stats the updated statistics
+	 * @param advancedControllableProperties the updated controllable properties
+	 * @param cachedValues the updated cached device values
+	 */
+	private void publishControlSnapshot(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperties, Map<String, String> cachedValues) {
+		ExtendedStatistics currentStatistics = localExtendedStatistics;
+		ControllablePropertyRegistry currentControllableProperties = localControllableProperties == null ? new ControllablePropertyRegistry() : localControllableProperties;
+		ExtendedStatistics updatedStatistics = new ExtendedStatistics();
+		updatedStatistics.setStatistics(stats);
+		if (currentStatistics.getControllableProperties() != null) {
+			updatedStatistics.setControllableProperties(advancedControllableProperties.toList());
+		}
+		controlOverrides.add(new ControlOverride(controlSequence + 1, diff(currentStatistics.getStatistics(), stats),
+				diff(localCacheMapOfPropertyNameAndValue, cachedValues), diff(currentControllableProperties.asMap(), advancedControllableProperties.asMap())));
+		controlSequence++;
+		localExtendedStatistics = updatedStatistics;
+		localControllableProperties = advancedControllableProperties;
+		localCacheMapOfPropertyNameAndValue = cachedValues;
+	}
+
+	/**
+	 * Records the control that has queued the writes of a {@link #controlProperties(List)} batch, with the changes reverting it.
+	 * A write replacing a value queued by an earlier control of the batch keeps the values published before that earlier control.
+	 *
+	 * @param controlName the name of the controllable property, including its group
+	 * @param queuedWrites the writes queued before the control
+	 * @param revert the changes restoring the values published before the control
+	 */
+	private void recordQueuedWrites(String controlName, Set<PendingConfigWrite> queuedWrites, ControlOverride revert) {
+		for (PendingConfigWrite write : pendingConfigWrites.values()) {
+			if (queuedWrites.contains(write)) {
+				continue;
+			}
+			ControlOverride earlierRevert = write.getRevert();
+			if (earlierRevert == null) {
+				write.setRevert(controlName, revert);
+				continue;
+			}
+			Map<String, String> statistics = new HashMap<>(revert.getStatistics());
+			statistics.putAll(earlierRevert.getStatistics());
+			Map<String, String> cachedValues = new HashMap<>(revert.getCachedValues());
+			cachedValues.putAll(earlierRevert.getCachedValues());
+			Map<String, AdvancedControllableProperty> controllableProperties = new HashMap<>(revert.getControllableProperties());
+			controllableProperties.putAll(earlierRevert.getControllableProperties());
+			write.setRevert(controlName, new ControlOverride(earlierRevert.getSequence(), statistics, cachedValues, controllableProperties));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		controlLock.lock();
+		try {
+			pendingConfigWrites = new LinkedHashMap<>();
+			for (ControllableProperty p : controllableProperties) {
+				try {
+					if (!isCoalescible(p)) {
+						flushConfigWrites();
+					}
+					controlProperty(p);
+				} catch (Exception e) {
+					logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				}
+			}
+			flushConfigWrites();
+		} finally {
+			pendingConfigWrites = null;
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the write of a control can be merged into a combined /api/config write.
+	 * Controls using another endpoint or a custom body, and controls reading the configuration back right after the write, can't.
+	 *
+	 * @param controllableProperty the control
+	 * @return true if the control only writes a single configuration value
+	 */
+	private boolean isCoalescible(ControllableProperty controllableProperty) {
+		String property = controllableProperty.getProperty();
+		String propertyKey = property.contains(SolsticeConstant.HASH) ? property.split(SolsticeConstant.HASH)[1] : property;
+		try {
+			return !NON_COALESCIBLE_PROPERTIES.contains(SolsticePropertiesList.getByName(propertyKey));
+		} catch (IllegalStateException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Sends the configuration values queued by the controls of a {@link #controlProperties(List)} batch.
+	 * The values are sent in a single /api/config write, grouped by API group. If the device rejects the combined write,
+	 * each value is sent separately so that the failing property is reported, see {@link #publishConfigWriteOutcome(List, Map)}.
+	 */
+	private void flushConfigWrites() {
+		if (pendingConfigWrites == null || pendingConfigWrites.isEmpty()) {
+			return;
+		}
+		List<PendingConfigWrite> writes = new ArrayList<>(pendingConfigWrites.values());
+		pendingConfigWrites.clear();
+		if (writes.size() > 1) {
+			try {
+				JsonNode response = this.doPost(getApiUrl(SolsticeCommand.CONFIG_COMMAND), createBatchBodyRequest(writes), JsonNode.class);
+				if (!response.has(SolsticeConstant.ERROR)) {
+					publishConfigWriteOutcome(writes, Collections.emptyMap());
+					return;
+				}
+				logger.warn(String.format("The device has rejected the combined write of %d properties: %s, sending them separately", writes.size(), response.get(SolsticeConstant.ERROR).asText()));
+			} catch (Exception e) {
+				logger.warn(String.format("Error when sending the combined write of %d properties, sending them separately", writes.size()), e);
+			}
+		}
+		Map<PendingConfigWrite, String> failedWrites = new HashMap<>();
+		for (PendingConfigWrite write : writes) {
+			try {
+				postConfigValue(getApiUrl(SolsticeCommand.CONFIG_COMMAND), write.getProperty(), write.getValue());
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", write.getProperty().getName()), e);
+				failedWrites.put(write, String.valueOf(e.getMessage()));
+			}
+		}
+		publishConfigWriteOutcome(writes, failedWrites);
+	}
+
+	/**
+	 * Publishes the outcome of the writes of a {@link #controlProperties(List)} batch.
+	 * The controls of the failed writes are reverted to the values published before them, and the errors are shown in the statistics
+	 * until the control is written successfully, as for the debounced writes.
+	 *
+	 * @param writes the writes sent, in control order
+	 * @param failedWrites map of failed write and error message
+	 */
+	private void publishConfigWriteOutcome(List<PendingConfigWrite> writes, Map<PendingConfigWrite, String> failedWrites) {
+		ExtendedStatistics currentStatistics = localExtendedStatistics;
+		if (currentStatistics == null) {
+			return;
+		}
+		Map<String, String> stats = new HashMap<>(currentStatistics.getStatistics());
+		Map<String, String> cachedValues = new HashMap<>(localCacheMapOfPropertyNameAndValue);
+		ControllablePropertyRegistry advancedControllableProperties = new ControllablePropertyRegistry(
+				localControllableProperties == null ? new ControllablePropertyRegistry() : localControllableProperties);
+		boolean isChanged = false;
+		// The latest control is reverted first, so that the values published before the earliest one are restored
+		for (int i = writes.size() - 1; i >= 0; i--) {
+			PendingConfigWrite write = writes.get(i);
+			if (write.getControlName() == null) {
+				continue;
+			}
+			String error = failedWrites.get(write);
+			if (error == null) {
+				isChanged |= controlWriteErrors.remove(write.getControlName()) != null;
+				stats.remove(getWriteErrorName(write.getControlName()));
+				continue;
+			}
+			applyOverride(write.getRevert().getStatistics(), stats);
+			applyOverride(write.getRevert().getCachedValues(), cachedValues);
+			applyOverride(write.getRevert().getControllableProperties(), advancedControllableProperties);
+			controlWriteErrors.put(write.getControlName(), error);
+			stats.put(getWriteErrorName(write.getControlName()), error);
+			isChanged = true;
+		}
+		if (isChanged) {
+			publishControlSnapshot(stats, advancedControllableProperties, cachedValues);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (this.pingMode == PingMode.ICMP) {
+			return super.ping();
+		} else if (this.pingMode == PingMode.TCP) {
+			if (isInitialized()) {
+				try {
+					PingResult pingResult = TcpPingEngine.ping(this.host, this.getPort(), this.getPingAttempts(), this.getPingTimeout());
+					latestPingResult = pingResult;
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(String.format("PING OK: %s of %s attempts to connect to %s on port %s succeeded, average %s ms", pingResult.getSuccessfulAttempts(),
+								pingResult.getAttempts(), host, this.getPort(), convertNanosToMillis(pingResult.getAverageLatency())));
+					}
+					return Math.max(1, (int) Math.round(pingResult.getAverageLatency() / 1_000_000.0));
+				} catch (SocketTimeoutException | ConnectException tex) {
+					throw new RuntimeException("Socket connection timed out", tex);
+				} catch (UnknownHostException ex) {
+					throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+				} catch (Exception e) {
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+					}
+					return this.getPingTimeout();
+				}
+			} else {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+		} else {
+			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() {
+		//Solstice Pod doesn't require API token.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		if (uri.contains("v2/")) {
+			headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+			String token = apiTokenManager == null ? null : apiTokenManager.getCurrentToken();
+			if (token != null) {
+				headers.setBearerAuth(token);
+			}
+		}
+		return headers;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The requests are sent over a pool of keep-alive connections resuming their TLS sessions, shared by all the polling cycles,
+	 * with the message converters and interceptors of the RestTemplate configured by {@link RestCommunicator}
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		httpClientLock.readLock().lock();
+		try {
+			if (pooledRestTemplate != null) {
+				return pooledRestTemplate;
+			}
+		} finally {
+			httpClientLock.readLock().unlock();
+		}
+		RestTemplate baseTemplate = super.obtainRestTemplate();
+		httpClientLock.writeLock().lock();
+		try {
+			if (pooledRestTemplate == null) {
+				pooledHttpClient = new PooledHttpClient(this.getTrustAllCertificates(), this.getTimeout(), this.getMaxConnectionsPerRoute(), SolsticeConstant.HTTP_KEEP_ALIVE,
+						SolsticeConstant.TLS_SESSION_CACHE_SIZE, SolsticeConstant.TLS_SESSION_TIMEOUT);
+				pooledHttpClient.setInstrumentation(instrumentation);
+				pooledRestTemplate = pooledHttpClient.createRestTemplate(baseTemplate, this::createRequestContext);
+			}
+			return pooledRestTemplate;
+		} finally {
+			httpClientLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Creates the context of a request sent by a monitoring thread, applying the {@link #requestTimeout} of the thread.
+	 *
+	 * @return the request context, or null to use the adapter timeout
+	 */
+	private HttpContext createRequestContext() {
+		Integer timeout = requestTimeout.get();
+		if (timeout == null) {
+			return null;
+		}
+		HttpClientContext context = HttpClientContext.create();
+		context.setRequestConfig(RequestConfig.custom()
+				.setConnectTimeout(timeout)
+				.setSocketTimeout(timeout)
+				.setConnectionRequestTimeout(timeout)
+				.build());
+		return context;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The request is served from {@link #trafficReplay} when a capture log is replayed, and written to {@link #trafficCapture} when the capture is enabled
+	 */
+	@Override
+	protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+		return exchange(HttpMethod.GET, uri, null, responseClass, () -> super.doGet(uri, responseClass));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The request is served from {@link #trafficReplay} when a capture log is replayed, and written to {@link #trafficCapture} when the capture is enabled.
+	 * The outcome of the control requests is recorded by the {@link #circuitBreaker}, a device rejecting the login has answered.
+	 * The token requests are part of the polling cycles, which record their own outcome.
+	 */
+	@Override
+	protected <Request, Response> Response doPost(String uri, Request request, Class<Response> responseClass) throws Exception {
+		if (SolsticeCommand.AUTHENTICATION_COMMAND.equals(uri)) {
+			return exchange(HttpMethod.POST, uri, request, responseClass, () -> super.doPost(uri, request, responseClass));
+		}
+		try {
+			Response response = exchange(HttpMethod.POST, uri, request, responseClass, () -> super.doPost(uri, request, responseClass));
+			circuitBreaker.recordSuccess();
+			return response;
+		} catch (FailedLoginException e) {
+			circuitBreaker.recordSuccess();
+			throw e;
+		} catch (Exception e) {
+			circuitBreaker.recordFailure();
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends a request to the device, or replays its captured response, and captures the request and its response if the capture is enabled.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param uri the request URI
+	 * @param request the request body, null for a GET request
+	 * @param responseClass the class of the response
+	 * @param send sends the request to the device
+	 * @param <Response> the type of the response
+	 * @return the response
+	 * @throws Exception if the request fails
+	 */
+	private <Response> Response exchange(HttpMethod method, String uri, Object request, Class<Response> responseClass, Callable<Response> send) throws Exception {
+		TrafficReplay replay = trafficReplay;
+		if (replay != null) {
+			return replayExchange(replay, method, uri, responseClass);
+		}
+		TrafficCapture capture = trafficCapture;
+		if (capture == null) {
+			return send.call();
+		}
+		String command = getCommand(uri);
+		TrafficRecord record = new TrafficRecord();
+		record.setTime(System.currentTimeMillis() - capture.getStartTime());
+		record.setMethod(method.name());
+		record.setEndpoint(command);
+		record.setUri(maskPassword(uri));
+		if (request != null && !SolsticeCommand.AUTHENTICATION_COMMAND.equals(command)) {
+			record.setRequest(maskPassword(request));
+		}
+		long startTime = System.nanoTime();
+		try {
+			Response response = send.call();
+			record.setDuration(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+			record.setStatus(HttpStatus.OK.value());
+			record.setBody(serializeCapturedBody(command, response));
+			return response;
+		} catch (Exception e) {
+			record.setDuration(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+			if (e instanceof CommandFailureException) {
+				record.setStatus(((CommandFailureException) e).getStatusCode());
+				record.setBody(((CommandFailureException) e).getResponse());
+			} else if (e instanceof FailedLoginException) {
+				record.setStatus(HttpStatus.UNAUTHORIZED.value());
+			}
+			record.setError(e.getMessage());
+			throw e;
+		} finally {
+			try {
+				capture.record(record);
+			} catch (IOException e) {
+				logger.warn("Unable to capture the request " + record.getUri(), e);
+			}
+		}
+	}
+
+	/**
+	 * Serves the next captured response of an endpoint after its captured duration, scaled by {@link #trafficReplayTimeScale}.
+	 * A response slower than the timeout of the request fails once the timeout has elapsed, like the request would.
+	 *
+	 * @param replay the replayed capture log
+	 * @param method the HTTP method of the request
+	 * @param uri the request URI
+	 * @param responseClass the class of the response
+	 * @param <Response> the type of the response
+	 * @return the captured response
+	 * @throws Exception the captured failure of the request
+	 */
+	@SuppressWarnings("unchecked")
+	private <Response> Response replayExchange(TrafficReplay replay, HttpMethod method, String uri, Class<Response> responseClass) throws Exception {
+		TrafficRecord record = replay.next(method.name(), getCommand(uri));
+		if (record == null) {
+			throw new ResourceNotReachableException(String.format("No captured response for %s %s", method, maskPassword(uri)));
+		}
+		long delay = replay.getDelay(record);
+		Integer timeout = requestTimeout.get();
+		if (timeout != null && delay > TimeUnit.MILLISECONDS.toNanos(timeout)) {
+			TimeUnit.MILLISECONDS.sleep(timeout);
+			throw new ResourceNotReachableException(String.format("Replayed request %s timed out after %d ms", maskPassword(uri), timeout));
+		}
+		TimeUnit.NANOSECONDS.sleep(delay);
+		int status = record.getStatus();
+		if (status >= HttpStatus.OK.value() && status < HttpStatus.MULTIPLE_CHOICES.value()) {
+			if (record.getBody() == null) {
+				return null;
+			}
+			if (responseClass == byte[].class) {
+				return (Response) record.getBody().getBytes(StandardCharsets.UTF_8);
+			}
+			if (responseClass == String.class) {
+				return (Response) record.getBody();
+			}
+			return objectMapper.readValue(record.getBody(), responseClass);
+		}
+		if (status == HttpStatus.UNAUTHORIZED.value() || status == HttpStatus.FORBIDDEN.value()) {
+			throw new FailedLoginException(record.getError());
+		}
+		if (status == 0) {
+			throw new ResourceNotReachableException(record.getError());
+		}
+		throw new CommandFailureException(this.getHost(), uri, record.getBody(), status);
+	}
+
+	/**
+	 * Serializes a response for the capture log, masking the access token of the token responses.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint of the request
+	 * @param response the response
+	 * @return the serialized response
+	 * @throws IOException if the response can't be serialized
+	 */
+	private String serializeCapturedBody(String command, Object response) throws IOException {
+		if (response == null) {
+			return null;
+		}
+		if (response instanceof byte[]) {
+			return new String((byte[]) response, StandardCharsets.UTF_8);
+		}
+		if (response instanceof String) {
+			return (String) response;
+		}
+		if (SolsticeCommand.AUTHENTICATION_COMMAND.equals(command) && response instanceof ObjectNode && ((ObjectNode) response).has(SolsticeConstant.ACCESS_TOKEN)) {
+			ObjectNode maskedResponse = ((ObjectNode) response).deepCopy();
+			maskedResponse.put(SolsticeConstant.ACCESS_TOKEN, SolsticeConstant.MASKED_VALUE);
+			return maskedResponse.toString();
+		}
+		return objectMapper.writeValueAsString(response);
+	}
+
+	/**
+	 * Retrieves the {@link SolsticeCommand} endpoint of a request URI, regardless of the host of the device.
+	 *
+	 * @param uri the request URI
+	 * @return the endpoint, or the URI without its query if it is not a {@link SolsticeCommand} endpoint
+	 */
+	private String getCommand(String uri) {
+		String path = uri.split("\\?", 2)[0];
+		for (String command : TRAFFIC_COMMANDS) {
+			if (path.equals(getApiUrl(command))) {
+				return command;
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Masks the admin password in a request URI
+	 *
+	 * @param uri the request URI
+	 * @return the URI without the password
+	 */
+	private String maskPassword(String uri) {
+		int index = uri.indexOf(SolsticeConstant.PASSWORD_REQUEST_PARAM);
+		return index < 0 ? uri : uri.substring(0, index) + SolsticeConstant.PASSWORD_REQUEST_PARAM + SolsticeConstant.MASKED_VALUE;
+	}
+
+	/**
+	 * Masks the admin password in a request body
+	 *
+	 * @param request the request body, a JSON string, a JSON node or a map
+	 * @return the body as text, with the password replaced by {@link SolsticeConstant#MASKED_VALUE}
+	 * @throws IOException if the body can't be serialized
+	 */
+	private String maskPassword(Object request) throws IOException {
+		JsonNode body;
+		if (request instanceof String) {
+			try {
+				body = objectMapper.readTree((String) request);
+			} catch (IOException e) {
+				return (String) request;
+			}
+		} else {
+			body = objectMapper.valueToTree(request);
+		}
+		if (body != null && body.isObject() && body.has(SolsticeConstant.PASSWORD)) {
+			body = body.deepCopy();
+			((ObjectNode) body).put(SolsticeConstant.PASSWORD, SolsticeConstant.MASKED_VALUE);
+			return objectMapper.writeValueAsString(body);
+		}
+		return request instanceof String ? (String) request : objectMapper.writeValueAsString(request);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		monitoringExecutor = Executors.newFixedThreadPool(SolsticeConstant.MONITORING_THREAD_POOL_SIZE, runnable -> {
+			Thread thread = new Thread(runnable, String.format("SolsticePodMonitoring-%s-%d", this.getHost(), threadCount.incrementAndGet()));
+			thread.setDaemon(true);
+			return thread;
+		});
+		super.internalInit();
+		tokenRefreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, String.format("SolsticePodTokenRefresh-%s", this.getHost()));
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (StringUtils.isNotNullOrEmpty(pollInstrumentation) && pollInstrumentation.equalsIgnoreCase(SolsticeConstant.TRUE)) {
+			instrumentation = new PollInstrumentation(SolsticeConstant.INSTRUMENTATION_WINDOW_SIZE);
+		}
+		if (StringUtils.isNotNullOrEmpty(adaptivePolling) && adaptivePolling.equalsIgnoreCase(SolsticeConstant.TRUE)) {
+			pollingCadence = new AdaptivePollingCadence(TimeUnit.SECONDS.toMillis(adaptivePollingIdleInterval), TimeUnit.SECONDS.toMillis(adaptivePollingCeiling));
+		}
+		if (StringUtils.isNotNullOrEmpty(trafficReplayFile)) {
+			trafficReplay = TrafficReplay.load(trafficReplayFile, trafficReplayTimeScale);
+			logger.info(String.format("Replaying %d captured requests from %s", trafficReplay.getRecordCount(), trafficReplayFile));
+		} else if (StringUtils.isNotNullOrEmpty(trafficCaptureFile)) {
+			trafficCapture = new TrafficCapture(trafficCaptureFile);
+		}
+		apiTokenManager = new ApiTokenManager(this::getToken, tokenRefreshScheduler, TimeUnit.SECONDS.toMillis(SolsticeConstant.TOKEN_REFRESH_MARGIN),
+				TimeUnit.SECONDS.toMillis(SolsticeConstant.TOKEN_REFRESH_RETRY_DELAY));
+		if (StringUtils.isNotNullOrEmpty(backgroundPolling) && backgroundPolling.equalsIgnoreCase(SolsticeConstant.TRUE)) {
+			AtomicInteger backgroundThreadCount = new AtomicInteger();
+			backgroundPollingScheduler = Executors.newScheduledThreadPool(SolsticeConstant.BACKGROUND_POLLING_THREADS, runnable -> {
+				Thread thread = new Thread(runnable, String.format("SolsticePodBackgroundPolling-%s-%d", this.getHost(), backgroundThreadCount.incrementAndGet()));
+				thread.setDaemon(true);
+				return thread;
+			});
+			backgroundPollScheduler = new StaggeredPollScheduler(backgroundPollingScheduler, backgroundPollingScheduler, TimeUnit.SECONDS.toMillis(backgroundPollingInterval),
+					SolsticeConstant.POLL_LATE_TOLERANCE);
+			backgroundPollScheduler.schedule(this.getHost(), 0, 1, () -> true, this::runBackgroundRefresh);
+		}
+		if (controlDebounceWindow > 0) {
+			controlWriteScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, String.format("SolsticePodControlWrite-%s", this.getHost()));
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		scheduleUnsentWrites();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (controlWriteScheduler != null) {
+			ScheduledExecutorService scheduler = controlWriteScheduler;
+			controlWriteScheduler = null;
+			flushDebouncedWrites(scheduler);
+		}
+		controlWriteErrors.clear();
+		if (backgroundPollScheduler != null) {
+			backgroundPollScheduler.cancel();
+			backgroundPollScheduler = null;
+		}
+		if (backgroundPollingScheduler != null) {
+			backgroundPollingScheduler.shutdownNow();
+			try {
+				if (!backgroundPollingScheduler.awaitTermination(SolsticeConstant.BACKGROUND_POLLING_TERMINATION_TIMEOUT, TimeUnit.SECONDS)) {
+					logger.warn("Background polling did not terminate in time");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			backgroundPollingScheduler = null;
+		}
+		if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
+			localCacheMapOfPropertyNameAndValue.clear();
+			timeZoneCatalogue = TimeZoneCatalogue.EMPTY;
+		}
+		endpointRefreshTimes.clear();
+		configResponse = null;
+		statisticResponse = null;
+		currentSessionResponse = null;
+		licensingInfoResponse = null;
+		connectionsResponse = null;
+		cachedConfigResponse = null;
+		derivedConfigResponse = null;
+		derivedStatisticResponse = null;
+		derivedStatistics = null;
+		derivedControlStatistics = null;
+		derivedControllableProperties = null;
+		localControllableProperties = null;
+		controlOverrides.clear();
+		controlSequence = 0;
+		if (monitoringExecutor != null) {
+			monitoringExecutor.shutdownNow();
+			monitoringExecutor = null;
+		}
+		if (apiTokenManager != null) {
+			apiTokenManager.clear();
+			apiTokenManager = null;
+		}
+		if (tokenRefreshScheduler != null) {
+			tokenRefreshScheduler.shutdownNow();
+			tokenRefreshScheduler = null;
+		}
+		httpClientLock.writeLock().lock();
+		try {
+			if (pooledHttpClient != null) {
+				pooledHttpClient.close();
+				pooledHttpClient = null;
+			}
+			pooledRestTemplate = null;
+		} finally {
+			httpClientLock.writeLock().unlock();
+		}
+		isEmergencyDelivery = false;
+		isConfigManagement = false;
+		latestPingResult = null;
+		instrumentation = null;
+		pollingCadence = null;
+		if (trafficCapture != null) {
+			try {
+				trafficCapture.close();
+			} catch (IOException e) {
+				logger.warn("Unable to close the traffic capture " + trafficCaptureFile, e);
+			}
+			trafficCapture = null;
+		}
+		trafficReplay = null;
+		circuitBreaker.reset();
+		failedMonitor.clear();
+		staleEndpoints.clear();
+		localExtendedStatistics = null;
+		backgroundRefreshError = null;
+		lastMonitoringUpdate = 0;
+		super.internalDestroy();
+	}
+
+	/**
+	 * Retrieves the monitoring data from the device and publishes it as the new {@link #localExtendedStatistics}.
+	 * Must be called while holding {@link #reentrantLock}.
+	 * The requests are sent without holding {@link #controlLock}, so controls keep applying to the latest snapshot meanwhile.
+	 * The changes made by those controls are merged into the retrieved data before it is published.
+	 * While the {@link #circuitBreaker} is open the device is not polled and the latest snapshot is published again, marked as stale.
+	 *
+	 * @throws Exception if the monitoring data can't be retrieved
+	 */
+	private void refreshMonitoringData() throws Exception {
+		if (!circuitBreaker.allowRequest()) {
+			publishStaleStatistics();
+			return;
+		}
+		if (circuitBreaker.getState() == CircuitState.HALF_OPEN && !probeDevice()) {
+			circuitBreaker.recordFailure();
+			publishStaleStatistics();
+			return;
+		}
+		long pollStartTime = startPhase();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> controlStats = new HashMap<>();
+		ControllablePropertyRegistry advancedControllableProperties = new ControllablePropertyRegistry();
+		long startSequence;
+		controlLock.lock();
+		try {
+			startSequence = controlSequence;
+		} finally {
+			controlLock.unlock();
+		}
+		convertConfigManagement();
+		failedMonitor.clear();
+		staleEndpoints.clear();
+		answeredEndpoints.clear();
+		unreachableEndpoints.clear();
+		Long statisticsRefreshTime = endpointRefreshTimes.get(SolsticeCommand.STATS_COMMAND);
+		try {
+			retrieveMonitoringData(stats);
+		} finally {
+			if (isDeviceUnreachable()) {
+				circuitBreaker.recordFailure();
+			} else {
+				circuitBreaker.recordSuccess();
+			}
+		}
+		if (!Objects.equals(statisticsRefreshTime, endpointRefreshTimes.get(SolsticeCommand.STATS_COMMAND))) {
+			updatePollingCadence();
+		}
+
+		long lockStartTime = startPhase();
+		controlLock.lock();
+		recordPhase(SolsticeConstant.CONTROL_LOCK_WAIT_PHASE, lockStartTime);
+		try {
+			List<ControlOverride> overrides = getControlOverridesSince(startSequence);
+			if (derivedStatistics == null || !overrides.isEmpty() || configResponse != derivedConfigResponse || statisticResponse != derivedStatisticResponse) {
+				long phaseStartTime = startPhase();
+				updateLocalCaching();
+				recordPhase(SolsticeConstant.UPDATE_LOCAL_CACHING_PHASE, phaseStartTime);
+				for (ControlOverride override : overrides) {
+					applyOverride(override.getCachedValues(), localCacheMapOfPropertyNameAndValue);
+				}
+				derivedStatistics = new HashMap<>();
+				derivedControlStatistics = new HashMap<>();
+				derivedControllableProperties = new ControllablePropertyRegistry();
+				phaseStartTime = startPhase();
+				populateMonitoringAndControllingData(derivedStatistics, derivedControlStatistics, derivedControllableProperties);
+				recordPhase(SolsticeConstant.POPULATE_PHASE, phaseStartTime);
+				derivedConfigResponse = configResponse;
+				derivedStatisticResponse = statisticResponse;
+			} else {
+				updateTimeDependentData();
+			}
+			stats.putAll(derivedStatistics);
+			controlStats.putAll(derivedControlStatistics);
+			if (isConfigManagement) {
+				advancedControllableProperties = new ControllablePropertyRegistry(derivedControllableProperties);
+				stats.putAll(controlStats);
+			}
+			for (ControlOverride override : overrides) {
+				applyOverride(override.getStatistics(), stats);
+				if (isConfigManagement) {
+					applyOverride(override.getControllableProperties(), advancedControllableProperties);
+				}
+			}
+			if (!overrides.isEmpty()) {
+				// The data contains values the device didn't report yet: derive it again and request the configuration on the next cycle
+				derivedStatistics = null;
+				endpointRefreshTimes.remove(SolsticeCommand.CONFIG_COMMAND);
+			}
+			applyControlWriteState(stats, advancedControllableProperties);
+			populatePingStatistics(stats);
+			populateConnectionStatistics(stats);
+			populateCircuitStatistics(stats, !staleEndpoints.isEmpty());
+			populateCadenceStatistics(stats);
+			recordPhase(SolsticeConstant.POLL_PHASE, pollStartTime);
+			PollInstrumentation currentInstrumentation = instrumentation;
+			if (currentInstrumentation != null) {
+				currentInstrumentation.populateStatistics(stats);
+			}
+			if (isConfigManagement) {
+				extendedStatistics.setControllableProperties(advancedControllableProperties.toList());
+			}
+			extendedStatistics.setStatistics(stats);
+			localExtendedStatistics = extendedStatistics;
+			localControllableProperties = advancedControllableProperties;
+			lastMonitoringUpdate = System.currentTimeMillis();
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the polling cycle has found the device unreachable: both /api endpoints could not be reached,
+	 * or no endpoint has answered while some have failed or missed the deadline.
+	 * A single failing or slow endpoint of a device that keeps answering doesn't count, nor does a device rejecting the login.
+	 *
+	 * @return true if the cycle counts as a failure of the {@link #circuitBreaker}
+	 */
+	private boolean isDeviceUnreachable() {
+		if (unreachableEndpoints.contains(SolsticeCommand.STATS_COMMAND) && unreachableEndpoints.contains(SolsticeCommand.CONFIG_COMMAND)) {
+			return true;
+		}
+		return answeredEndpoints.isEmpty() && (!failedMonitor.isEmpty() || !staleEndpoints.isEmpty());
+	}
+
+	/**
+	 * Publishes the latest snapshot again without polling the device, marked as stale, while the {@link #circuitBreaker} is open.
+	 *
+	 * @throws ResourceNotReachableException if no snapshot has been retrieved yet
+	 */
+	private void publishStaleStatistics() {
+		controlLock.lock();
+		try {
+			ExtendedStatistics snapshot = localExtendedStatistics;
+			if (snapshot == null) {
+				throw new ResourceNotReachableException(String.format("The device is unreachable, next probe at %s", new Date(circuitBreaker.getNextProbeTime())));
+			}
+			Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+			populateCircuitStatistics(stats, true);
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			extendedStatistics.setStatistics(stats);
+			extendedStatistics.setControllableProperties(snapshot.getControllableProperties());
+			localExtendedStatistics = extendedStatistics;
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the device is reachable again with a single connection to its {@link #apiPort},
+	 * before the full set of monitoring requests is sent.
+	 *
+	 * @return true if the device has accepted the connection
+	 */
+	private boolean probeDevice() {
+		try {
+			TcpPingEngine.ping(this.getHost(), apiPort, 1, this.getPingTimeout());
+			return true;
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("The device %s is still unreachable: %s", this.getHost(), e.getMessage()));
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Populates the state of the {@link #circuitBreaker} and whether the published data is stale.
+	 *
+	 * @param stats the statistics to populate
+	 * @param isStale whether the statistics come from an earlier polling cycle
+	 */
+	private void populateCircuitStatistics(Map<String, String> stats, boolean isStale) {
+		long nextProbeTime = circuitBreaker.getNextProbeTime();
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE, circuitBreaker.getState().getName());
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_NEXT_PROBE, nextProbeTime == 0 ? SolsticeConstant.NONE : new Date(nextProbeTime).toString());
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA, String.valueOf(isStale));
+	}
+
+	/**
+	 * Records whether the room is in use after a refresh of the statistics:
+	 * users connected, sources live or content posted on the pod, or an active routing session.
+	 */
+	private void updatePollingCadence() {
+		AdaptivePollingCadence cadence = pollingCadence;
+		if (cadence == null) {
+			return;
+		}
+		boolean isActive = false;
+		MonitoringResponse response = statisticResponse;
+		if (response != null) {
+			for (SolsticePropertiesList property : ACTIVITY_PROPERTIES) {
+				String value = response.getProperties().get(property.getName());
+				try {
+					isActive |= value != null && Double.parseDouble(value) > 0;
+				} catch (NumberFormatException e) {
+					logger.debug(String.format("Invalid %s value %s", property.getName(), value));
+				}
+			}
+		}
+		JsonNode currentSession = currentSessionResponse;
+		if (currentSession != null && currentSession.has(ActiveRoutingProperty.STATE.getValue())) {
+			isActive |= SolsticeConstant.ACTIVE_SESSION_STATE.equalsIgnoreCase(currentSession.get(ActiveRoutingProperty.STATE.getValue()).asText());
+		}
+		if (isActive) {
+			cadence.recordActivity();
+		} else {
+			cadence.recordIdle();
+		}
+	}
+
+	/**
+	 * Populates the current polling cadence of the statistics endpoint and whether the room is in use, if {@link #adaptivePolling} is enabled
+	 *
+	 * @param stats the statistics to populate
+	 */
+	private void populateCadenceStatistics(Map<String, String> stats) {
+		AdaptivePollingCadence cadence = pollingCadence;
+		if (cadence == null) {
+			return;
+		}
+		long interval = Math.max(TimeUnit.SECONDS.toMillis(statisticsPollingInterval), cadence.getInterval());
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.POLLING_CADENCE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(interval)));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.SESSION_ACTIVE, String.valueOf(cadence.isActive()));
+	}
+
+	/**
+	 * Retrieves the overrides of the controls published after a polling cycle has started,
+	 * and drops the older ones: the responses of the cycle already contain their changes.
+	 * Must be called while holding {@link #controlLock}.
+	 *
+	 * @param startSequence the value of {@link #controlSequence} when the polling cycle started
+	 * @return the overrides to merge into the data retrieved by the polling cycle, in control order
+	 */
+	private List<ControlOverride> getControlOverridesSince(long startSequence) {
+		controlOverrides.removeIf(override -> override.getSequence() <= startSequence);
+		return new ArrayList<>(controlOverrides);
+	}
 
-					valueNode.put(SolsticeConstant.AUTO_CONNECT_ON_CLIENT_LAUNCH, autoConnectOnClientLaunch);
-					valueNode.put(SolsticeConstant.AUTO_SDS_ON_CLIENT_LAUNCH, autoSDSOnClientLaunch);
-					rootNode.put(SolsticeConstant.GENERAL_CURATION, valueNode);
-					sendCommandClientQuickConnectAction(rootNode);
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, SolsticeConstant.LAUNCH_CLIENT_AND_AUTO_CONNECT, String.valueOf(autoConnectOnClientLaunch));
-					updateCachedDeviceData(localCacheMapOfPropertyNameAndValue, SolsticeConstant.LAUNCH_CLIENT_AND_AUTOMATICALLY_SDS, String.valueOf(autoSDSOnClientLaunch));
-					break;
-				default:
-					logger.debug(String.format("Property name %s doesn't support", propertyKey));
+	/**
+	 * Computes the entries of a map that have been changed by a control.
+	 * Values are compared by identity, which is enough for strings and for the controllable properties that are replaced on change.
+	 *
+	 * @param before the map before the control
+	 * @param after the map after the control
+	 * @param <T> the type of the values
+	 * @return map of changed key and new value, null for the removed keys
+	 */
+	private <T> Map<String, T> diff(Map<String, T> before, Map<String, T> after) {
+		Map<String, T> changes = new HashMap<>();
+		for (Map.Entry<String, T> entry : after.entrySet()) {
+			if (before.get(entry.getKey()) != entry.getValue()) {
+				changes.put(entry.getKey(), entry.getValue());
+			}
+		}
+		for (String key : before.keySet()) {
+			if (!after.containsKey(key)) {
+				changes.put(key, null);
 			}
-			updateValueForTheControllableProperty(property, value, stats, advancedControllableProperties);
-		} finally {
-			reentrantLock.unlock();
 		}
+		return changes;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Applies the changes recorded by {@link #diff(Map, Map)} to a map.
+	 *
+	 * @param changes map of changed key and new value, null for the removed keys
+	 * @param target the map to update
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
-		}
-		for (ControllableProperty p : controllableProperties) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+	private void applyOverride(Map<String, String> changes, Map<String, String> target) {
+		for (Map.Entry<String, String> entry : changes.entrySet()) {
+			if (entry.getValue() == null) {
+				target.remove(entry.getKey());
+			} else {
+				target.put(entry.getKey(), entry.getValue());
 			}
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Applies the changes recorded by {@link #diff(Map, Map)} to the controllable properties.
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param changes map of changed property name and new property, null for the removed properties
+	 * @param advancedControllableProperties the controllable properties to update
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (this.pingMode == PingMode.ICMP) {
-			return super.ping();
-		} else if (this.pingMode == PingMode.TCP) {
-			if (isInitialized()) {
-				long pingResultTotal = 0L;
-
-				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-						puSocketConnection.setSoTimeout(this.getPingTimeout());
-						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
-							pingResultTotal += pingResult;
-							if (this.logger.isTraceEnabled()) {
-								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-							}
-						} else {
-							if (this.logger.isDebugEnabled()) {
-								this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-							}
-							return this.getPingTimeout();
-						}
-					} catch (SocketTimeoutException | ConnectException tex) {
-						throw new RuntimeException("Socket connection timed out", tex);
-					} catch (UnknownHostException ex) {
-						throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
-					} catch (Exception e) {
-						if (this.logger.isWarnEnabled()) {
-							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-						}
-						return this.getPingTimeout();
-					}
-				}
-				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+	private void applyOverride(Map<String, AdvancedControllableProperty> changes, ControllablePropertyRegistry advancedControllableProperties) {
+		for (Map.Entry<String, AdvancedControllableProperty> entry : changes.entrySet()) {
+			if (entry.getValue() == null) {
+				advancedControllableProperties.remove(entry.getKey());
 			} else {
-				throw new IllegalStateException("Cannot use device class without calling init() first");
+				advancedControllableProperties.replace(entry.getValue());
 			}
-		} else {
-			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the latency distribution of the latest TCP ping.
+	 *
+	 * @param stats the statistics to update
 	 */
-	@Override
-	protected void authenticate() {
-		//Solstice Pod doesn't require API token.
+	private void populatePingStatistics(Map<String, String> stats) {
+		PingResult pingResult = latestPingResult;
+		if (pingMode != PingMode.TCP || pingResult == null) {
+			return;
+		}
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.PING_MIN_LATENCY, convertNanosToMillis(pingResult.getMinLatency()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.PING_AVERAGE_LATENCY, convertNanosToMillis(pingResult.getAverageLatency()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.PING_MAX_LATENCY, convertNanosToMillis(pingResult.getMaxLatency()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.PING_JITTER, convertNanosToMillis(pingResult.getJitter()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.PING_SUCCESSFUL_ATTEMPTS, String.valueOf(pingResult.getSuccessfulAttempts()));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the reuse of the pooled connections and the TLS handshakes sent to the device since the adapter was initialized.
+	 *
+	 * @param stats the statistics to update
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		if (uri.contains("v2/")) {
-			headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-			headers.setBearerAuth(token);
+	private void populateConnectionStatistics(Map<String, String> stats) {
+		PooledHttpClient httpClient = pooledHttpClient;
+		if (httpClient == null) {
+			return;
 		}
-		return headers;
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.HTTP_REQUESTS, String.valueOf(httpClient.getRequests()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.HTTP_CONNECTIONS_OPENED, String.valueOf(httpClient.getOpenedConnections()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.HTTP_POOL_HIT_RATE, String.valueOf(Math.round(httpClient.getPoolHitRate() * 10) / 10.0));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.TLS_FULL_HANDSHAKES, String.valueOf(httpClient.getFullHandshakes()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.TLS_RESUMED_HANDSHAKES, String.valueOf(httpClient.getResumedHandshakes()));
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.TLS13_HANDSHAKES, String.valueOf(httpClient.getTls13Handshakes()));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Starts timing a polling phase.
+	 *
+	 * @return the {@link System#nanoTime()} at the start of the phase, 0 if {@link #instrumentation} is disabled
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
+	private long startPhase() {
+		return instrumentation == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Records the duration of a polling phase if {@link #instrumentation} is enabled.
+	 *
+	 * @param phase the phase name
+	 * @param startTime the value returned by {@link #startPhase()} at the start of the phase
+	 */
+	private void recordPhase(String phase, long startTime) {
+		PollInstrumentation currentInstrumentation = instrumentation;
+		if (currentInstrumentation != null && startTime != 0) {
+			currentInstrumentation.recordPhase(phase, startTime);
 		}
-		super.internalInit();
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Converts a duration in nanoseconds to milliseconds with a precision of one microsecond.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 * @return the duration in milliseconds
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
+	private String convertNanosToMillis(long nanos) {
+		return String.valueOf(Math.round(nanos / 1000.0) / 1000.0);
+	}
+
+	/**
+	 * Updates the derived statistics depending on the current time when neither the configuration nor the statistics response has changed:
+	 * the device Date and Time moved forward by the age of the configuration response, and the time since the last connection.
+	 */
+	private void updateTimeDependentData() {
+		Map<String, String> configProperties = configResponse == null ? Collections.emptyMap() : configResponse.getProperties();
+		for (String property : new String[] { SolsticeConstant.DATE, SolsticeConstant.TIME }) {
+			String value = configProperties.get(property);
+			localCacheMapOfPropertyNameAndValue.put(property, StringUtils.isNullOrEmpty(value) ? SolsticeConstant.NONE : value);
 		}
-		if (!localCacheMapOfPropertyNameAndValue.isEmpty()) {
-			localCacheMapOfPropertyNameAndValue.clear();
-			availableTimeZones.clear();
+		adjustCachedDateTime();
+		for (SolsticePropertiesList property : TIME_DEPENDENT_PROPERTIES) {
+			populateProperty(property, derivedStatistics, derivedControlStatistics, derivedControllableProperties);
 		}
-		isEmergencyDelivery = false;
-		isConfigManagement = false;
-		failedMonitor.clear();
-		super.internalDestroy();
+	}
+
+	/**
+	 * Runs one cycle of the background refresh loop.
+	 * A cycle right after a control is skipped, the same way the next {@link #getMultipleStatistics()} call is in foreground mode.
+	 */
+	private void runBackgroundRefresh() {
+		long lockStartTime = startPhase();
+		reentrantLock.lock();
+		recordPhase(SolsticeConstant.POLL_LOCK_WAIT_PHASE, lockStartTime);
+		try {
+			if (!isEmergencyDelivery) {
+				refreshMonitoringData();
+			}
+			isEmergencyDelivery = false;
+			backgroundRefreshError = null;
+		} catch (Exception e) {
+			backgroundRefreshError = e;
+			logger.error("Error while refreshing monitoring data in background", e);
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Builds the statistics returned to Symphony in background polling mode from the latest refreshed snapshot.
+	 *
+	 * @return copy of {@link #localExtendedStatistics} with the time of the latest successful refresh and its age
+	 * @throws Exception the error of the latest background refresh if no data has been retrieved yet
+	 */
+	private ExtendedStatistics getBackgroundSnapshot() throws Exception {
+		ExtendedStatistics snapshot = localExtendedStatistics;
+		Exception error = backgroundRefreshError;
+		if (snapshot == null) {
+			if (error != null) {
+				throw error;
+			}
+			ExtendedStatistics emptyStatistics = new ExtendedStatistics();
+			emptyStatistics.setStatistics(new HashMap<>());
+			return emptyStatistics;
+		}
+		Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.LAST_MONITORING_UPDATE, new Date(lastMonitoringUpdate).toString());
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.MONITORING_DATA_AGE, String.valueOf((System.currentTimeMillis() - lastMonitoringUpdate) / 1000));
+		StaggeredPollScheduler pollScheduler = backgroundPollScheduler;
+		if (pollScheduler != null) {
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.ON_TIME_POLLS, String.valueOf(pollScheduler.getOnTimePolls()));
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.LATE_POLLS, String.valueOf(pollScheduler.getLatePolls()));
+			stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.SKIPPED_POLLS, String.valueOf(pollScheduler.getSkippedPolls()));
+		}
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		extendedStatistics.setControllableProperties(snapshot.getControllableProperties());
+		return extendedStatistics;
 	}
 
 	/**
@@ -636,12 +2386,18 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 */
 	private void updateLocalCaching() {
 		try {
-			getAllAvailableTimeZones();
-			JsonNode node = objectMapper.createArrayNode().add(configResponse).add(statisticResponse);
+			if (configResponse != cachedConfigResponse) {
+				getAllAvailableTimeZones(configResponse);
+				cachedConfigResponse = configResponse;
+			}
 			localCacheMapOfPropertyNameAndValue.clear();
-			for (AggregatedDevice item : aggregatedDeviceProcessor.extractDevices(node)) {
-				localCacheMapOfPropertyNameAndValue.putAll(item.getProperties());
+			if (configResponse != null) {
+				localCacheMapOfPropertyNameAndValue.putAll(configResponse.getProperties());
+			}
+			if (statisticResponse != null) {
+				localCacheMapOfPropertyNameAndValue.putAll(statisticResponse.getProperties());
 			}
+			adjustCachedDateTime();
 			String value;
 			for (SolsticePropertiesList property : SolsticePropertiesList.values()) {
 				value = localCacheMapOfPropertyNameAndValue.get(property.getName());
@@ -667,34 +2423,460 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	}
 
 	/**
-	 * Retrieves the configuration command from the API and stores the JSON response in the 'configResponse' field.
-	 * Throws Exception if login fails and logs other exceptions.
+	 * Retrieves the monitoring data whose polling interval has elapsed, sending the requests concurrently,
+	 * and populates the active routing statistics. The responses of the other endpoints are served from the cache.
+	 * When a {@link #pollDeadline} is set, the endpoints that have not answered in time keep their earlier response
+	 * and are reported as stale, unless they have never answered.
+	 * Login failures are rethrown, any other failure is recorded in {@link #failedMonitor} or logged.
+	 *
+	 * @param stats the statistics to populate
+	 * @throws Exception if the monitoring data can't be retrieved
+	 */
+	private void retrieveMonitoringData(Map<String, String> stats) throws Exception {
+		long deadline = pollDeadline > 0 ? System.currentTimeMillis() + pollDeadline : 0;
+		CompletableFuture<MonitoringResponse> statisticsFuture = isRefreshDue(SolsticeCommand.STATS_COMMAND) ?
+				CompletableFuture.supplyAsync(() -> sendMonitoringRequest(SolsticeCommand.STATS_COMMAND, deadline, this::retrieveStatisticsCommand), monitoringExecutor) : null;
+		CompletableFuture<MonitoringResponse> configurationFuture = isRefreshDue(SolsticeCommand.CONFIG_COMMAND) ?
+				CompletableFuture.supplyAsync(() -> sendMonitoringRequest(SolsticeCommand.CONFIG_COMMAND, deadline, this::retrieveConfigurationCommand), monitoringExecutor) : null;
+		CompletableFuture<Boolean> tokenFuture = CompletableFuture.completedFuture(true);
+		if (isRefreshDue(SolsticeCommand.GET_CURRENT_SESSION_COMMAND) || isRefreshDue(SolsticeCommand.GET_LICENSING_COMMAND) || isRefreshDue(SolsticeCommand.GET_CONNECTIONS_COMMAND)) {
+			tokenFuture = CompletableFuture.supplyAsync(() -> sendMonitoringRequest(SolsticeCommand.AUTHENTICATION_COMMAND, deadline, this::checkValidApiToken), monitoringExecutor);
+		}
+		CompletableFuture<JsonNode> currentSessionFuture = retrieveActiveRoutingAsync(tokenFuture, SolsticeCommand.GET_CURRENT_SESSION_COMMAND, deadline);
+		CompletableFuture<JsonNode> licensingInfoFuture = retrieveActiveRoutingAsync(tokenFuture, SolsticeCommand.GET_LICENSING_COMMAND, deadline);
+		CompletableFuture<JsonNode> connectionsFuture = retrieveActiveRoutingAsync(tokenFuture, SolsticeCommand.GET_CONNECTIONS_COMMAND, deadline);
+		awaitMonitoringRequests(deadline, statisticsFuture, configurationFuture, tokenFuture, currentSessionFuture, licensingInfoFuture, connectionsFuture);
+
+		statisticResponse = getMonitoringResponse(SolsticeCommand.STATS_COMMAND, statisticsFuture, statisticResponse, deadline);
+		configResponse = getMonitoringResponse(SolsticeCommand.CONFIG_COMMAND, configurationFuture, configResponse, deadline);
+		if (failedMonitor.containsKey(SolsticeCommand.STATS_COMMAND) && failedMonitor.containsKey(SolsticeCommand.CONFIG_COMMAND)) {
+			StringBuilder stringBuilder = new StringBuilder();
+			stringBuilder.append(failedMonitor.get(SolsticeCommand.STATS_COMMAND)).append(failedMonitor.get(SolsticeCommand.CONFIG_COMMAND));
+			throw new ResourceNotReachableException("Get monitoring data failed: " + stringBuilder);
+		}
+		if (tokenFuture.isDone() && !getMonitoringResult(tokenFuture)) {
+			throw new FailedLoginException("API Token cannot be null or empty, please enter valid password and username field.");
+		}
+		currentSessionResponse = getActiveRoutingResponse(SolsticeCommand.GET_CURRENT_SESSION_COMMAND, currentSessionFuture, currentSessionResponse, deadline);
+		licensingInfoResponse = getActiveRoutingResponse(SolsticeCommand.GET_LICENSING_COMMAND, licensingInfoFuture, licensingInfoResponse, deadline);
+		connectionsResponse = getActiveRoutingResponse(SolsticeCommand.GET_CONNECTIONS_COMMAND, connectionsFuture, connectionsResponse, deadline);
+		populateActiveRouting(stats, currentSessionResponse, licensingInfoResponse, connectionsResponse);
+		stats.put(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_ENDPOINTS,
+				staleEndpoints.isEmpty() ? SolsticeConstant.NONE : staleEndpoints.stream().map(this::getEndpointName).sorted().collect(Collectors.joining(SolsticeConstant.COMMA)));
+	}
+
+	/**
+	 * Schedules an active routing request once the API token has been validated, if the polling interval of the endpoint has elapsed.
+	 *
+	 * @param tokenFuture the future of the API token validation
+	 * @param command the active routing {@link SolsticeCommand} endpoint
+	 * @param deadline the deadline of the polling cycle, 0 for none
+	 * @return the future of the active routing response, or null if the cached response is still valid
+	 */
+	private CompletableFuture<JsonNode> retrieveActiveRoutingAsync(CompletableFuture<Boolean> tokenFuture, String command, long deadline) {
+		if (!isRefreshDue(command)) {
+			return null;
+		}
+		return tokenFuture.thenApplyAsync(isValid -> isValid ? sendMonitoringRequest(command, deadline, () -> retrieveActiveRoutingAPI(command)) : null, monitoringExecutor);
+	}
+
+	/**
+	 * Sends a monitoring request with the timeout of its endpoint, shortened to the time remaining before the deadline of the polling cycle.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @param deadline the deadline of the polling cycle, 0 for none
+	 * @param request sends the request
+	 * @param <T> the type of the request result
+	 * @return the result of the request
+	 * @throws CompletionException wrapping the exception thrown by the request
+	 */
+	private <T> T sendMonitoringRequest(String command, long deadline, Callable<T> request) {
+		long timeout = getEndpointTimeout(command);
+		if (timeout <= 0) {
+			timeout = this.getTimeout();
+		}
+		if (deadline > 0) {
+			long remaining = Math.max(1, deadline - System.currentTimeMillis());
+			timeout = timeout > 0 ? Math.min(timeout, remaining) : remaining;
+		}
+		requestTimeout.set((int) Math.min(timeout, Integer.MAX_VALUE));
+		long phaseStartTime = startPhase();
+		try {
+			return request.call();
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		} finally {
+			recordPhase(getEndpointName(command), phaseStartTime);
+			requestTimeout.remove();
+		}
+	}
+
+	/**
+	 * Waits for the monitoring requests of a polling cycle to complete, until the deadline of the cycle at most.
+	 *
+	 * @param deadline the deadline of the polling cycle, 0 for none
+	 * @param futures the futures of the requests, null for the endpoints served from the cache
+	 * @throws InterruptedException if the polling thread is interrupted
 	 */
-	private void retrieveConfigurationCommand() {
+	private void awaitMonitoringRequests(long deadline, CompletableFuture<?>... futures) throws InterruptedException {
+		CompletableFuture<Void> allRequests = CompletableFuture.allOf(Arrays.stream(futures).filter(Objects::nonNull).toArray(CompletableFuture[]::new));
 		try {
-			String request = String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()) + (StringUtils.isNotNullOrEmpty(this.getPassword()) ? SolsticeConstant.PASSWORD_REQUEST_PARAM + this.getPassword()
-					: SolsticeConstant.EMPTY);
-			configResponse = doGet(request, JsonNode.class);
+			if (deadline > 0) {
+				allRequests.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+			} else {
+				allRequests.join();
+			}
+		} catch (TimeoutException | ExecutionException | CompletionException e) {
+			// Each request is checked separately
+		}
+	}
+
+	/**
+	 * Retrieves the response of a configuration or statistics request, or the cached response if the endpoint wasn't requested,
+	 * has failed or has missed the deadline of the polling cycle.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @param future the future of the request, null if the endpoint wasn't requested
+	 * @param cachedResponse the latest response of the endpoint
+	 * @param deadline the deadline of the polling cycle, 0 for none
+	 * @return the response to use in this polling cycle
+	 * @throws ResourceNotReachableException if the login has failed
+	 */
+	private MonitoringResponse getMonitoringResponse(String command, CompletableFuture<MonitoringResponse> future, MonitoringResponse cachedResponse, long deadline) {
+		if (future == null) {
+			return cachedResponse;
+		}
+		try {
+			if (future.isDone()) {
+				MonitoringResponse response = getMonitoringResult(future);
+				endpointRefreshTimes.put(command, System.currentTimeMillis());
+				answeredEndpoints.add(command);
+				return response;
+			}
+			future.cancel(false);
+		} catch (ResourceNotReachableException e) {
+			if (e.getCause() instanceof FailedLoginException) {
+				answeredEndpoints.add(command);
+			}
+			throw e;
 		} catch (Exception e) {
-			failedMonitor.put(SolsticeCommand.CONFIG_COMMAND, e.getMessage());
-			logger.error("Error when retrieve configuration command", e);
+			if (!isDeadlineExceeded(deadline) || cachedResponse == null) {
+				if (!(e instanceof CommandFailureException)) {
+					unreachableEndpoints.add(command);
+				}
+				failedMonitor.put(command, String.valueOf(e.getMessage()));
+				logger.error("Error when retrieve " + getEndpointName(command) + " command", e);
+				return cachedResponse;
+			}
+		}
+		return useStaleResponse(command, cachedResponse);
+	}
+
+	/**
+	 * Retrieves the response of an active routing request, or the cached response if the endpoint wasn't requested
+	 * or has missed the deadline of the polling cycle.
+	 *
+	 * @param command the active routing {@link SolsticeCommand} endpoint
+	 * @param future the future of the request, null if the endpoint wasn't requested
+	 * @param cachedResponse the latest response of the endpoint
+	 * @param deadline the deadline of the polling cycle, 0 for none
+	 * @return the response to use in this polling cycle, null if the request has failed
+	 */
+	private JsonNode getActiveRoutingResponse(String command, CompletableFuture<JsonNode> future, JsonNode cachedResponse, long deadline) {
+		if (future == null) {
+			return cachedResponse;
+		}
+		if (future.isDone()) {
+			JsonNode response = future.join();
+			if (response != null) {
+				answeredEndpoints.add(command);
+			}
+			if (response != null || !isDeadlineExceeded(deadline) || cachedResponse == null) {
+				return response;
+			}
+		} else {
+			future.cancel(false);
+		}
+		return useStaleResponse(command, cachedResponse);
+	}
+
+	/**
+	 * Keeps the cached response of an endpoint that has missed the deadline of the polling cycle.
+	 * An endpoint that has never answered is recorded as failed instead.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @param cachedResponse the latest response of the endpoint
+	 * @param <T> the type of the response
+	 * @return the cached response
+	 */
+	private <T> T useStaleResponse(String command, T cachedResponse) {
+		logger.warn(String.format("The %s request has missed the polling deadline of %s ms", getEndpointName(command), pollDeadline));
+		unreachableEndpoints.add(command);
+		if (cachedResponse == null) {
+			failedMonitor.put(command, "Polling deadline exceeded");
+		} else {
+			staleEndpoints.add(command);
+		}
+		return cachedResponse;
+	}
+
+	/**
+	 * Checks whether the deadline of the polling cycle has passed.
+	 *
+	 * @param deadline the deadline of the polling cycle, 0 for none
+	 * @return true if there is a deadline and it has passed
+	 */
+	private boolean isDeadlineExceeded(long deadline) {
+		return deadline > 0 && System.currentTimeMillis() >= deadline;
+	}
+
+	/**
+	 * Waits for a monitoring request to complete and unwraps the exception it has failed with, if any.
+	 *
+	 * @param future the future of the monitoring request
+	 * @param <T> the type of the request result
+	 * @return the result of the request
+	 * @throws Exception the exception thrown by the request
+	 */
+	private <T> T getMonitoringResult(CompletableFuture<T> future) throws Exception {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Moves the cached device date and time forward by the age of the configuration response,
+	 * so that Date and Time keep running while the configuration is served from the cache.
+	 */
+	private void adjustCachedDateTime() {
+		Long configRefreshTime = endpointRefreshTimes.get(SolsticeCommand.CONFIG_COMMAND);
+		if (configRefreshTime == null) {
+			return;
+		}
+		long age = System.currentTimeMillis() - configRefreshTime;
+		for (String property : new String[] { SolsticeConstant.DATE, SolsticeConstant.TIME }) {
+			String value = localCacheMapOfPropertyNameAndValue.get(property);
+			try {
+				if (StringUtils.isNotNullOrEmpty(value)) {
+					localCacheMapOfPropertyNameAndValue.put(property, String.valueOf(Long.parseLong(value) + age));
+				}
+			} catch (NumberFormatException e) {
+				logger.debug("Unable to adjust the cached value of " + property + ": " + value);
+			}
 		}
 	}
 
 	/**
-	 * Retrieves the statistics command from the API and stores the JSON response in the 'statisticResponse' field.
-	 * Throws Exception if login fails and logs other exceptions.
+	 * Checks whether the cached response of a monitoring endpoint has expired and the endpoint has to be requested again.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @return true if the endpoint has never been retrieved successfully or its polling interval, raised by the {@link #pollingCadence} while the room is idle, has elapsed
+	 */
+	private boolean isRefreshDue(String command) {
+		Long refreshTime = endpointRefreshTimes.get(command);
+		if (refreshTime == null) {
+			return true;
+		}
+		long interval = getPollingInterval(command) * 1000;
+		AdaptivePollingCadence cadence = pollingCadence;
+		if (cadence != null) {
+			interval = Math.max(interval, cadence.getInterval());
+		}
+		return System.currentTimeMillis() - refreshTime >= interval;
+	}
+
+	/**
+	 * Retrieves the polling interval configured for a monitoring endpoint.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @return the polling interval in seconds
+	 */
+	private long getPollingInterval(String command) {
+		switch (command) {
+			case SolsticeCommand.STATS_COMMAND:
+				return statisticsPollingInterval;
+			case SolsticeCommand.CONFIG_COMMAND:
+				return configurationPollingInterval;
+			case SolsticeCommand.GET_CURRENT_SESSION_COMMAND:
+				return activeRoutingPollingInterval;
+			case SolsticeCommand.GET_LICENSING_COMMAND:
+				return licensingPollingInterval;
+			case SolsticeCommand.GET_CONNECTIONS_COMMAND:
+				return connectionsPollingInterval;
+			default:
+				return SolsticeConstant.DEFAULT_POLLING_INTERVAL;
+		}
+	}
+
+	/**
+	 * Retrieves the request timeout configured for a monitoring endpoint.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @return the timeout in milliseconds, 0 to use the adapter timeout
+	 */
+	private long getEndpointTimeout(String command) {
+		switch (command) {
+			case SolsticeCommand.STATS_COMMAND:
+				return statisticsTimeout;
+			case SolsticeCommand.CONFIG_COMMAND:
+				return configurationTimeout;
+			case SolsticeCommand.AUTHENTICATION_COMMAND:
+			case SolsticeCommand.GET_CURRENT_SESSION_COMMAND:
+				return activeRoutingTimeout;
+			case SolsticeCommand.GET_LICENSING_COMMAND:
+				return licensingTimeout;
+			case SolsticeCommand.GET_CONNECTIONS_COMMAND:
+				return connectionsTimeout;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Retrieves the name of a monitoring endpoint used in the logs and statistics.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @return the endpoint name
+	 */
+	private String getEndpointName(String command) {
+		switch (command) {
+			case SolsticeCommand.STATS_COMMAND:
+				return SolsticeConstant.STATISTICS_ENDPOINT;
+			case SolsticeCommand.CONFIG_COMMAND:
+				return SolsticeConstant.CONFIGURATION_ENDPOINT;
+			case SolsticeCommand.GET_CURRENT_SESSION_COMMAND:
+				return SolsticeConstant.CURRENT_SESSION_ENDPOINT;
+			case SolsticeCommand.GET_LICENSING_COMMAND:
+				return SolsticeConstant.LICENSING;
+			case SolsticeCommand.GET_CONNECTIONS_COMMAND:
+				return SolsticeConstant.CONNECTIONS_ENDPOINT;
+			case SolsticeCommand.AUTHENTICATION_COMMAND:
+				return SolsticeConstant.TOKEN_CHECK_PHASE;
+			default:
+				return command;
+		}
+	}
+
+	/**
+	 * Converts a polling interval imported from the user interface
+	 *
+	 * @param value the polling interval in seconds
+	 * @return the polling interval, or {@link SolsticeConstant#DEFAULT_POLLING_INTERVAL} if the value is invalid
+	 */
+	private long convertPollingInterval(String value) {
+		try {
+			long interval = Long.parseLong(value.trim());
+			if (interval >= 0) {
+				return interval;
+			}
+		} catch (Exception e) {
+			logger.debug("Invalid polling interval " + value);
+		}
+		return SolsticeConstant.DEFAULT_POLLING_INTERVAL;
+	}
+
+	/**
+	 * Converts a deadline, timeout or debounce window imported from the user interface
+	 *
+	 * @param value the duration in milliseconds
+	 * @return the duration in milliseconds, or 0 if the value is invalid
+	 */
+	private long convertMilliseconds(String value) {
+		try {
+			long millis = Long.parseLong(value.trim());
+			if (millis >= 0) {
+				return millis;
+			}
+		} catch (Exception e) {
+			// The invalid value is logged below
+		}
+		logger.debug("Invalid duration in milliseconds " + value);
+		return 0;
+	}
+
+	/**
+	 * Retrieves the configuration command from the API.
+	 *
+	 * @return the parsed response, the previous response if it hasn't changed
+	 * @throws Exception if the configuration can't be retrieved
+	 */
+	private MonitoringResponse retrieveConfigurationCommand() throws Exception {
+		return parseMonitoringResponse(SolsticeCommand.CONFIG_COMMAND, doGet(getConfigurationRequest(), byte[].class), configResponse);
+	}
+
+	/**
+	 * Retrieves the configuration from the API for a control, without updating the response of the polling cycles.
+	 *
+	 * @return the parsed configuration response
+	 * @throws Exception if the configuration can't be retrieved
+	 */
+	private MonitoringResponse fetchConfiguration() throws Exception {
+		return monitoringResponseParser.parse(doGet(getConfigurationRequest(), byte[].class));
+	}
+
+	/**
+	 * Builds the URL of an /api endpoint, adding the {@link #apiPort} if it is not the default HTTPS port.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @return the endpoint URL
+	 */
+	private String getApiUrl(String command) {
+		return String.format(command, apiPort == SolsticeConstant.HTTPS_PORT ? this.getHost() : this.getHost() + SolsticeConstant.COLON + apiPort);
+	}
+
+	/**
+	 * Builds the request of the configuration command, including the admin password if there is one.
+	 *
+	 * @return the request URL
+	 */
+	private String getConfigurationRequest() {
+		return getApiUrl(SolsticeCommand.CONFIG_COMMAND) + (StringUtils.isNotNullOrEmpty(this.getPassword()) ? SolsticeConstant.PASSWORD_REQUEST_PARAM + this.getPassword()
+				: SolsticeConstant.EMPTY);
+	}
+
+	/**
+	 * Retrieves the statistics command from the API.
+	 *
+	 * @return the parsed response, the previous response if it hasn't changed
+	 * @throws ResourceNotReachableException if the login fails
+	 * @throws Exception if the statistics can't be retrieved
 	 */
-	private void retrieveStatisticsCommand() {
+	private MonitoringResponse retrieveStatisticsCommand() throws Exception {
 		try {
-			String request = String.format(SolsticeCommand.STATS_COMMAND, this.getHost()) + (StringUtils.isNotNullOrEmpty(this.getPassword()) ? SolsticeConstant.PASSWORD_REQUEST_PARAM + this.getPassword()
+			String request = getApiUrl(SolsticeCommand.STATS_COMMAND) + (StringUtils.isNotNullOrEmpty(this.getPassword()) ? SolsticeConstant.PASSWORD_REQUEST_PARAM + this.getPassword()
 					: SolsticeConstant.EMPTY);
-			statisticResponse = doGet(request, JsonNode.class);
+			return parseMonitoringResponse(SolsticeCommand.STATS_COMMAND, doGet(request, byte[].class), statisticResponse);
 		} catch (FailedLoginException e) {
 			throw new ResourceNotReachableException("Failed to login, please check the password", e);
-		} catch (Exception e) {
-			failedMonitor.put(SolsticeCommand.STATS_COMMAND, e.getMessage());
-			logger.error("Error when retrieve statistics command", e);
+		}
+	}
+
+	/**
+	 * Parses the body of a configuration or statistics response, unless it is identical to the previous response of the endpoint.
+	 * The hash is compared with the response published by the latest polling cycle, so a response discarded
+	 * after missing the deadline is parsed again when the same body is received.
+	 *
+	 * @param command the {@link SolsticeCommand} endpoint
+	 * @param body the raw response body
+	 * @param previousResponse the latest published response of the endpoint
+	 * @return the previous response if the body hasn't changed, the newly parsed response otherwise
+	 * @throws IOException if the body is not valid JSON
+	 */
+	private MonitoringResponse parseMonitoringResponse(String command, byte[] body, MonitoringResponse previousResponse) throws IOException {
+		PollInstrumentation currentInstrumentation = instrumentation;
+		if (currentInstrumentation != null) {
+			currentInstrumentation.recordResponseSize(getEndpointName(command), body.length);
+		}
+		long phaseStartTime = startPhase();
+		try {
+			return monitoringResponseParser.parseChanged(body, previousResponse);
+		} finally {
+			recordPhase(getEndpointName(command) + SolsticeConstant.PARSE_PHASE, phaseStartTime);
 		}
 	}
 
@@ -705,9 +2887,9 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 */
 	private String getScreenKey() {
 		try {
-			retrieveConfigurationCommand();
-			if (configResponse.has(SolsticeConstant.AUTHENTICATION_CURATION) && configResponse.get(SolsticeConstant.AUTHENTICATION_CURATION).has(SolsticeConstant.SESSION_KEY)) {
-				return configResponse.get(SolsticeConstant.AUTHENTICATION_CURATION).get(SolsticeConstant.SESSION_KEY).asText();
+			String screenKey = fetchConfiguration().getProperties().get(SolsticePropertiesList.KEY.getName());
+			if (screenKey != null) {
+				return screenKey;
 			}
 		} catch (Exception e) {
 			logger.error("Error when retrieve configuration command", e);
@@ -716,16 +2898,14 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	}
 
 	/**
-	 * Retrieves and populates active routing information based on the provided statistics map.
+	 * Populates active routing information from the active routing responses into the provided statistics map.
 	 *
 	 * @param stats A map containing statistics to be populated with active routing information.
-	 * @throws Exception If there's an error during the retrieval or population process.
+	 * @param currentSessionResponse the response of {@link SolsticeCommand#GET_CURRENT_SESSION_COMMAND}, null if it failed
+	 * @param licensingInfoResponse the response of {@link SolsticeCommand#GET_LICENSING_COMMAND}, null if it failed
+	 * @param connectionsResponse the response of {@link SolsticeCommand#GET_CONNECTIONS_COMMAND}, null if it failed
 	 */
-	private void retrieveAndPopulateActiveRouting(Map<String, String> stats) throws Exception {
-		if (!checkValidApiToken()) {
-			throw new FailedLoginException("API Token cannot be null or empty, please enter valid password and username field.");
-		}
-		JsonNode currentSessionResponse = retrieveActiveRoutingAPI(SolsticeCommand.GET_CURRENT_SESSION_COMMAND);
+	private void populateActiveRouting(Map<String, String> stats, JsonNode currentSessionResponse, JsonNode licensingInfoResponse, JsonNode connectionsResponse) {
 		if (currentSessionResponse != null) {
 			for (ActiveRoutingProperty item : ActiveRoutingProperty.getListByType(SolsticeConstant.SESSION_DATA)) {
 				if (currentSessionResponse.has(item.getValue())) {
@@ -733,7 +2913,6 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 				}
 			}
 		}
-		JsonNode licensingInfoResponse = retrieveActiveRoutingAPI(SolsticeCommand.GET_LICENSING_COMMAND);
 		if (licensingInfoResponse != null) {
 			for (ActiveRoutingProperty item : ActiveRoutingProperty.getListByType(SolsticeConstant.LICENSING)) {
 				if (licensingInfoResponse.has(item.getValue())) {
@@ -741,7 +2920,6 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 				}
 			}
 		}
-		JsonNode connectionsResponse = retrieveActiveRoutingAPI(SolsticeCommand.GET_CONNECTIONS_COMMAND);
 		if (connectionsResponse != null && connectionsResponse.has("connections")) {
 			JsonNode connectionsNode = connectionsResponse.get("connections");
 			if (connectionsNode != null && connectionsNode.isObject()) {
@@ -757,6 +2935,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 
 	/**
 	 * Retrieves active routing information from an API endpoint.
+	 * If the device rejects the token, the request is sent once more with a refreshed token.
 	 *
 	 * @param request The request string representing the API endpoint.
 	 * @return A JsonNode object containing the active routing information retrieved from the API,
@@ -764,48 +2943,62 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 */
 	private JsonNode retrieveActiveRoutingAPI(String request) {
 		try {
-			return this.doGet(request, JsonNode.class);
+			String token = apiTokenManager.getCurrentToken();
+			JsonNode response;
+			try {
+				response = this.doGet(request, JsonNode.class);
+			} catch (FailedLoginException e) {
+				logger.debug("The API token has been rejected, retrying the request " + request + " with a refreshed token");
+				apiTokenManager.invalidate(token);
+				response = this.doGet(request, JsonNode.class);
+			}
+			endpointRefreshTimes.put(request, System.currentTimeMillis());
+			return response;
 		} catch (Exception e) {
 			logger.error("Error when retrieve Active Routing info with request " + request, e);
+			failedMonitor.put(request, String.valueOf(e.getMessage()));
 			return null;
 		}
 	}
 
 	/**
 	 * Check API token validation
-	 * If the token expires, we send a request to get a new token
+	 * If there is no valid token, we wait for a new token, the refresh being shared with the concurrent callers
 	 *
 	 * @return boolean
 	 */
 	private boolean checkValidApiToken() throws Exception {
-		if (StringUtils.isNullOrEmpty(token) || System.currentTimeMillis() - tokenExpire >= expiresIn) {
-			token = getToken();
-		}
-		return StringUtils.isNotNullOrEmpty(token);
+		return StringUtils.isNotNullOrEmpty(apiTokenManager.getToken());
 	}
 
 	/**
 	 * Retrieves a token using the provided username and password
 	 *
-	 * @return the token string
+	 * @return the token and the lifetime reported by the device, {@link SolsticeConstant#DEFAULT_TOKEN_LIFETIME} if it reported none
 	 */
-	private String getToken() throws Exception {
+	private ApiToken getToken() throws Exception {
 		String accessToken = SolsticeConstant.EMPTY;
-		tokenExpire = System.currentTimeMillis();
+		long lifetime = SolsticeConstant.DEFAULT_TOKEN_LIFETIME;
 
 		MultiValueMap<String, String> valueMap = new LinkedMultiValueMap<>();
 		valueMap.add("grant_type", "password");
 		valueMap.add("username", SolsticeConstant.EMPTY);
 		valueMap.add("password", StringUtils.isNotNullOrEmpty(this.getPassword()) ? this.getPassword() : SolsticeConstant.EMPTY);
+		long phaseStartTime = startPhase();
 		try {
 			JsonNode response = this.doPost(SolsticeCommand.AUTHENTICATION_COMMAND, valueMap, JsonNode.class);
 			if (response != null && response.has(SolsticeConstant.ACCESS_TOKEN)) {
 				accessToken = response.get(SolsticeConstant.ACCESS_TOKEN).asText();
 			}
+			if (response != null && response.has(SolsticeConstant.EXPIRES_IN) && response.get(SolsticeConstant.EXPIRES_IN).asLong() > 0) {
+				lifetime = response.get(SolsticeConstant.EXPIRES_IN).asLong();
+			}
 		} catch (Exception e) {
 			throw new FailedLoginException("Failed to retrieve an access token for account with from username and password. Please username id and password");
+		} finally {
+			recordPhase(SolsticeConstant.TOKEN_REFRESH_PHASE, phaseStartTime);
 		}
-		return accessToken;
+		return new ApiToken(accessToken, TimeUnit.SECONDS.toMillis(lifetime));
 	}
 
 	/**
@@ -813,134 +3006,145 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 *
 	 * @param stats the stats are list of Statistics
 	 * @param controlStats the control stats are list of Statistics
-	 * @param advancedControllableProperties the advancedControllableProperties are list AdvancedControllableProperty instance
+	 * @param advancedControllableProperties the advancedControllableProperties are registry of AdvancedControllableProperty instances
 	 */
-	private void populateMonitoringAndControllingData(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		String value;
-		String propertyName;
+	private void populateMonitoringAndControllingData(Map<String, String> stats, Map<String, String> controlStats, ControllablePropertyRegistry advancedControllableProperties) {
 		for (SolsticePropertiesList property : SolsticePropertiesList.values()) {
-			value = localCacheMapOfPropertyNameAndValue.get(property.getName());
-			propertyName = property.getGroup().concat(property.getName());
-			if (StringUtils.isNotNullOrEmpty(value)) {
-				switch (property) {
-					case SET_DEFAULT_BACKGROUND:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats, createButton(propertyName, SolsticeConstant.RESET, SolsticeConstant.RESETTING, SolsticeConstant.GRACE_PERIOD),
-								value);
-						break;
-					case SCHEDULED_DAILY_REBOOT:
-					case BROADCAST_DISPLAY_NAME:
-					case PUBLISH_DISPLAY_NAME:
-					case DESKTOP_SCREEN_SHARING:
-					case APPLICATION_WINDOW_SHARING:
-					case ANDROID_MIRRORING:
-					case IOS_MIRRORING:
-					case VIDEO_FILES_AND_IMAGES:
-					case USE_24_HOUR_TIME_FORMAT:
-					case DISABLE_MODERATOR_APPROVAL:
-					case SCREEN_KEY:
+			populateProperty(property, stats, controlStats, advancedControllableProperties);
+		}
+	}
+
+	/**
+	 * populate the monitoring or controlling data of a single property
+	 *
+	 * @param property the property to populate
+	 * @param stats the stats are list of Statistics
+	 * @param controlStats the control stats are list of Statistics
+	 * @param advancedControllableProperties the advancedControllableProperties are registry of AdvancedControllableProperty instances
+	 */
+	private void populateProperty(SolsticePropertiesList property, Map<String, String> stats, Map<String, String> controlStats,
+			ControllablePropertyRegistry advancedControllableProperties) {
+		String value = localCacheMapOfPropertyNameAndValue.get(property.getName());
+		String propertyName = property.getGroup().concat(property.getName());
+		if (StringUtils.isNotNullOrEmpty(value)) {
+			switch (property) {
+				case SET_DEFAULT_BACKGROUND:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats, createButton(propertyName, SolsticeConstant.RESET, SolsticeConstant.RESETTING, SolsticeConstant.GRACE_PERIOD),
+							value);
+					break;
+				case SCHEDULED_DAILY_REBOOT:
+				case BROADCAST_DISPLAY_NAME:
+				case PUBLISH_DISPLAY_NAME:
+				case DESKTOP_SCREEN_SHARING:
+				case APPLICATION_WINDOW_SHARING:
+				case ANDROID_MIRRORING:
+				case IOS_MIRRORING:
+				case VIDEO_FILES_AND_IMAGES:
+				case USE_24_HOUR_TIME_FORMAT:
+				case DISABLE_MODERATOR_APPROVAL:
+				case SCREEN_KEY:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats, createSwitch(propertyName, convertBooleanToNumber(value), SolsticeConstant.OFF, SolsticeConstant.ON), value);
+					break;
+				case DISPLAY_NAME_ON_MAIN_SCREEN:
+				case DISPLAY_NAME_ON_PRESENCE_BAR:
+				case HOST_IP_ADDRESS_ON_MAIN_SCREEN:
+				case HOST_IP_ADDRESS_ON_PRESENCE_BAR:
+				case SCREEN_KEY_ON_MAIN_SCREEN:
+				case SCREEN_KEY_ON_PRESENCE_BAR:
+					value = localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.SCREEN_CUSTOMIZATION);
+					int status = getScreenStatus(value, property.getName());
+					if (status != SolsticeConstant.INVALID_SCREEN_STATUS) {
+						addAdvanceControlProperties(advancedControllableProperties, controlStats, createSwitch(propertyName, status, SolsticeConstant.OFF, SolsticeConstant.ON), value);
+					}
+					break;
+				case AIRPLAY_DISCOVERY_PROXY:
+					if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.IOS_MIRRORING))) {
 						addAdvanceControlProperties(advancedControllableProperties, controlStats, createSwitch(propertyName, convertBooleanToNumber(value), SolsticeConstant.OFF, SolsticeConstant.ON), value);
-						break;
-					case DISPLAY_NAME_ON_MAIN_SCREEN:
-					case DISPLAY_NAME_ON_PRESENCE_BAR:
-					case HOST_IP_ADDRESS_ON_MAIN_SCREEN:
-					case HOST_IP_ADDRESS_ON_PRESENCE_BAR:
-					case SCREEN_KEY_ON_MAIN_SCREEN:
-					case SCREEN_KEY_ON_PRESENCE_BAR:
-						value = localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.SCREEN_CUSTOMIZATION);
-						int status = getScreenStatus(value, property.getName());
-						if (status != SolsticeConstant.INVALID_SCREEN_STATUS) {
-							addAdvanceControlProperties(advancedControllableProperties, controlStats, createSwitch(propertyName, status, SolsticeConstant.OFF, SolsticeConstant.ON), value);
-						}
-						break;
-					case AIRPLAY_DISCOVERY_PROXY:
-						if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.IOS_MIRRORING))) {
-							addAdvanceControlProperties(advancedControllableProperties, controlStats, createSwitch(propertyName, convertBooleanToNumber(value), SolsticeConstant.OFF, SolsticeConstant.ON), value);
-						}
-						break;
-					case REBOOT_TIME_OF_DAY_MINUTE:
-						if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.ACTIVE))) {
-							if (minutesValueArray == null) {
-								minutesValueArray = createArrayNumber(0, 59);
-							}
-							addAdvanceControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, minutesValueArray, value), value);
-						}
-						break;
-					case REBOOT_TIME_OF_DAY_HOUR:
-						if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.ACTIVE))) {
-							if (hoursValueArray == null) {
-								hoursValueArray = createArrayNumber(0, 23);
-							}
-							addAdvanceControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, hoursValueArray, value), value);
-						}
-						break;
-					case DISPLAY_NAME:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats, createText(propertyName, value), value);
-						break;
-					case MAX_CONNECTIONS:
-					case MAX_POSTS:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats, createNumeric(propertyName, value), value);
-						break;
-					case HDMI_OUTPUT_MODE:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats,
-								createDropdown(propertyName, EnumTypeHandler.getEnumNames(HDMIOutputEnum.class), EnumTypeHandler.getNameByValue(HDMIOutputEnum.class, value)), value);
-						break;
-					case BROWSER_LOOK_IN:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats,
-								createDropdown(propertyName, EnumTypeHandler.getEnumNames(BrowserLookInEnum.class), EnumTypeHandler.getNameByValue(BrowserLookInEnum.class, value)), value);
-						break;
-					case LANGUAGE:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats,
-								createDropdown(propertyName, EnumTypeHandler.getEnumNames(LanguageEnum.class), EnumTypeHandler.getNameByValue(LanguageEnum.class, value)), value);
-						break;
-					case CLIENT_QUICK_CONNECT_ACTION:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats,
-								createDropdown(propertyName, EnumTypeHandler.getEnumNames(QuickConnectActionEnum.class),
-										QuickConnectActionEnum.getNameByValue(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.LAUNCH_CLIENT_AND_AUTO_CONNECT),
-												localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.LAUNCH_CLIENT_AND_AUTOMATICALLY_SDS))), value);
-						break;
-					case TIME_ZONE:
-						String[] timeZoneVales = availableTimeZones.stream().map(TimeZone::getName).toArray(String[]::new);
-						addAdvanceControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, timeZoneVales, getTimeZoneNameById(value)), value);
-						break;
-					case AUTOMATICALLY_RESIZE_IMAGES:
-						addAdvanceControlProperties(advancedControllableProperties, controlStats, createNumeric(propertyName, calculateMPixels(value)), calculateMPixels(value));
-						break;
-					case LICENSE_STATUS:
-						stats.put(propertyName, EnumTypeHandler.getNameByValue(LicenseStatusEnum.class, value));
-						break;
-					case DATE:
-						String zone = getTimeZoneNameById(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME_ZONE)).split(SolsticeConstant.COMMA)[0];
-						stats.put(propertyName, getDateTimeFromFormattedString(value, SolsticeConstant.DATE_FORMAT, zone));
-						break;
-					case TIME:
-						zone = getTimeZoneNameById(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME_ZONE)).split(SolsticeConstant.COMMA)[0];
-						String timeFormat = SolsticeConstant.TIME_12H_FORMAT;
-						if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.USE_24_HOUR_TIME_FORMAT))) {
-							timeFormat = SolsticeConstant.TIME_24H_FORMAT;
-						}
-						stats.put(propertyName, getDateTimeFromFormattedString(value, timeFormat, zone));
-						break;
-					case TIME_SINCE_LAST_CONNECTION_INITIALIZE:
-						stats.put(propertyName, SolsticeConstant.NONE);
-						if (Math.abs(System.currentTimeMillis() - Long.parseLong(value)) > SolsticeConstant.NUM_OF_MILLISECONDS_IN_HOUR) {
-							stats.put(propertyName, convertTime(value));
+					}
+					break;
+				case REBOOT_TIME_OF_DAY_MINUTE:
+					if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.ACTIVE))) {
+						if (minutesValueArray == null) {
+							minutesValueArray = createArrayNumber(0, 59);
 						}
-						break;
-					case SERVER_VERSION:
-						stats.put(propertyName, cutStringBeforeSecondDot(value));
-						break;
-					case KEY:
-						if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticePropertiesList.SCREEN_KEY.getName()))) {
-							stats.put(propertyName, value);
+						addAdvanceControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, minutesValueArray, value), value);
+					}
+					break;
+				case REBOOT_TIME_OF_DAY_HOUR:
+					if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.ACTIVE))) {
+						if (hoursValueArray == null) {
+							hoursValueArray = createArrayNumber(0, 23);
 						}
-						break;
-					default:
-						stats.put(propertyName, value);
-				}
-			} else {
-				if (!property.isControl()) {
+						addAdvanceControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, hoursValueArray, value), value);
+					}
+					break;
+				case DISPLAY_NAME:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats, createText(propertyName, value), value);
+					break;
+				case MAX_CONNECTIONS:
+				case MAX_POSTS:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats, createNumeric(propertyName, value), value);
+					break;
+				case HDMI_OUTPUT_MODE:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats,
+							createDropdown(propertyName, EnumTypeHandler.getEnumNames(HDMIOutputEnum.class), EnumTypeHandler.getNameByValue(HDMIOutputEnum.class, value)), value);
+					break;
+				case BROWSER_LOOK_IN:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats,
+							createDropdown(propertyName, EnumTypeHandler.getEnumNames(BrowserLookInEnum.class), EnumTypeHandler.getNameByValue(BrowserLookInEnum.class, value)), value);
+					break;
+				case LANGUAGE:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats,
+							createDropdown(propertyName, EnumTypeHandler.getEnumNames(LanguageEnum.class), EnumTypeHandler.getNameByValue(LanguageEnum.class, value)), value);
+					break;
+				case CLIENT_QUICK_CONNECT_ACTION:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats,
+							createDropdown(propertyName, EnumTypeHandler.getEnumNames(QuickConnectActionEnum.class),
+									QuickConnectActionEnum.getNameByValue(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.LAUNCH_CLIENT_AND_AUTO_CONNECT),
+											localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.LAUNCH_CLIENT_AND_AUTOMATICALLY_SDS))), value);
+					break;
+				case TIME_ZONE:
+					String[] timeZoneVales = timeZoneCatalogue.getNames();
+					addAdvanceControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, timeZoneVales, getTimeZoneNameById(value)), value);
+					break;
+				case AUTOMATICALLY_RESIZE_IMAGES:
+					addAdvanceControlProperties(advancedControllableProperties, controlStats, createNumeric(propertyName, calculateMPixels(value)), calculateMPixels(value));
+					break;
+				case LICENSE_STATUS:
+					stats.put(propertyName, EnumTypeHandler.getNameByValue(LicenseStatusEnum.class, value));
+					break;
+				case DATE:
+					String zone = getTimeZoneNameById(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME_ZONE)).split(SolsticeConstant.COMMA)[0];
+					stats.put(propertyName, getDateTimeFromFormattedString(value, SolsticeConstant.DATE_FORMAT, zone));
+					break;
+				case TIME:
+					zone = getTimeZoneNameById(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.TIME_ZONE)).split(SolsticeConstant.COMMA)[0];
+					String timeFormat = SolsticeConstant.TIME_12H_FORMAT;
+					if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticeConstant.USE_24_HOUR_TIME_FORMAT))) {
+						timeFormat = SolsticeConstant.TIME_24H_FORMAT;
+					}
+					stats.put(propertyName, getDateTimeFromFormattedString(value, timeFormat, zone));
+					break;
+				case TIME_SINCE_LAST_CONNECTION_INITIALIZE:
 					stats.put(propertyName, SolsticeConstant.NONE);
-				}
+					if (Math.abs(System.currentTimeMillis() - Long.parseLong(value)) > SolsticeConstant.NUM_OF_MILLISECONDS_IN_HOUR) {
+						stats.put(propertyName, convertTime(value));
+					}
+					break;
+				case SERVER_VERSION:
+					stats.put(propertyName, cutStringBeforeSecondDot(value));
+					break;
+				case KEY:
+					if (SolsticeConstant.TRUE.equals(localCacheMapOfPropertyNameAndValue.get(SolsticePropertiesList.SCREEN_KEY.getName()))) {
+						stats.put(propertyName, value);
+					}
+					break;
+				default:
+					stats.put(propertyName, value);
+			}
+		} else {
+			if (!property.isControl()) {
+				stats.put(propertyName, SolsticeConstant.NONE);
 			}
 		}
 	}
@@ -955,6 +3159,200 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 * @throws Exception if an error occurs during the POST request
 	 */
 	private void sendPostRequest(String command, SolsticePropertiesList property, Object value) {
+		if (pendingConfigWrites != null) {
+			PendingConfigWrite write = new PendingConfigWrite(property, value);
+			PendingConfigWrite previousWrite = pendingConfigWrites.put(property.getApiGroupName() + SolsticeConstant.HASH + property.getApiPropertyName(), write);
+			if (previousWrite != null) {
+				write.setRevert(previousWrite.getControlName(), previousWrite.getRevert());
+			}
+			return;
+		}
+		postConfigValue(command, property, value);
+	}
+
+	/**
+	 * Writes the value of a numeric or text control.
+	 * With a debounce window the value is held back and only the last value of a burst of changes is sent once the window has elapsed,
+	 * otherwise it is sent immediately.
+	 *
+	 * @param controlName the name of the controllable property, including its group
+	 * @param property the Solstice property associated with the value
+	 * @param value the value to be sent in the request body
+	 * @param displayValue the value shown in the statistics until the write completes
+	 */
+	private void writeConfigValue(String controlName, SolsticePropertiesList property, Object value, String displayValue) {
+		if (controlWriteScheduler == null || pendingConfigWrites != null) {
+			sendPostRequest(getApiUrl(SolsticeCommand.CONFIG_COMMAND), property, value);
+			return;
+		}
+		DebouncedConfigWrite write = new DebouncedConfigWrite(property, value, controlName, displayValue);
+		DebouncedConfigWrite previousWrite = debouncedWrites.put(controlName, write);
+		if (previousWrite != null && previousWrite.getFuture() != null) {
+			previousWrite.getFuture().cancel(false);
+		}
+		write.setFuture(controlWriteScheduler.schedule(() -> sendDebouncedWrite(write), controlDebounceWindow, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Sends a debounced write once its window has elapsed, unless a newer value of the control has replaced it.
+	 * The outcome is reported in the statistics and the configuration is requested again on the next polling cycle.
+	 *
+	 * @param write the debounced write
+	 */
+	private void sendDebouncedWrite(DebouncedConfigWrite write) {
+		if (debouncedWrites.get(write.getControlName()) != write) {
+			return;
+		}
+		try {
+			postConfigValue(getApiUrl(SolsticeCommand.CONFIG_COMMAND), write.getProperty(), write.getValue());
+			controlWriteErrors.remove(write.getControlName());
+		} catch (Exception e) {
+			logger.error(String.format("Error when control property %s", write.getControlName()), e);
+			controlWriteErrors.put(write.getControlName(), String.valueOf(e.getMessage()));
+		}
+		controlLock.lock();
+		try {
+			debouncedWrites.remove(write.getControlName(), write);
+			endpointRefreshTimes.remove(SolsticeCommand.CONFIG_COMMAND);
+			derivedStatistics = null;
+			ExtendedStatistics currentStatistics = localExtendedStatistics;
+			if (currentStatistics != null) {
+				Map<String, String> stats = new HashMap<>(currentStatistics.getStatistics());
+				stats.remove(getWriteErrorName(write.getControlName()));
+				applyControlWriteState(stats, new ControllablePropertyRegistry());
+				ExtendedStatistics updatedStatistics = new ExtendedStatistics();
+				updatedStatistics.setStatistics(stats);
+				updatedStatistics.setControllableProperties(currentStatistics.getControllableProperties());
+				localExtendedStatistics = updatedStatistics;
+			}
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Shows the values of the pending debounced writes instead of the values retrieved from the device, and the errors of the failed writes.
+	 *
+	 * @param stats the statistics to update
+	 * @param advancedControllableProperties the controllable properties to update
+	 */
+	private void applyControlWriteState(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperties) {
+		for (DebouncedConfigWrite write : debouncedWrites.values()) {
+			if (stats.containsKey(write.getControlName())) {
+				stats.put(write.getControlName(), write.getDisplayValue());
+			}
+			AdvancedControllableProperty controllableProperty = advancedControllableProperties.get(write.getControlName());
+			if (controllableProperty != null) {
+				advancedControllableProperties.replace(copyWithValue(controllableProperty, write.getDisplayValue()));
+			}
+		}
+		for (Map.Entry<String, String> error : controlWriteErrors.entrySet()) {
+			stats.put(getWriteErrorName(error.getKey()), error.getValue());
+		}
+	}
+
+	/**
+	 * Retrieves the name of the statistic reporting the failed write of a control.
+	 *
+	 * @param controlName the name of the controllable property, including its group
+	 * @return the statistic name, e.g. AdapterMetadata#MaximumPostsWriteError
+	 */
+	private String getWriteErrorName(String controlName) {
+		return SolsticeConstant.ADAPTER_METADATA_GROUP + controlName.substring(controlName.indexOf(SolsticeConstant.HASH) + 1) + SolsticeConstant.WRITE_ERROR;
+	}
+
+	/**
+	 * Sends the debounced writes that are still waiting when the adapter is destroyed, waiting {@link SolsticeConstant#CONTROL_WRITE_FLUSH_TIMEOUT} at most.
+	 * The writes are sent by the scheduler thread after the write it is sending, so that no value is sent twice. A write that fails,
+	 * or is still waiting when the timeout has elapsed, is kept and scheduled again by the next initialization.
+	 *
+	 * @param scheduler the scheduler sending the debounced writes
+	 */
+	private void flushDebouncedWrites(ScheduledExecutorService scheduler) {
+		long deadline = System.currentTimeMillis() + SolsticeConstant.CONTROL_WRITE_FLUSH_TIMEOUT;
+		for (DebouncedConfigWrite write : debouncedWrites.values()) {
+			if (write.getFuture() != null) {
+				write.getFuture().cancel(false);
+			}
+		}
+		scheduler.execute(() -> sendUnsentWrites(deadline));
+		scheduler.shutdown();
+		try {
+			if (!scheduler.awaitTermination(SolsticeConstant.CONTROL_WRITE_FLUSH_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				logger.warn("The debounced control writes are still being sent, the writes that fail are sent again on the next initialization");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Sends the debounced writes that are still waiting, in a single /api/config write or separately if the device rejects it,
+	 * with request timeouts bounded by the flush deadline. The writes that couldn't be sent are kept for the next initialization.
+	 *
+	 * @param deadline the time the flush ends at, in milliseconds since the epoch
+	 */
+	private void sendUnsentWrites(long deadline) {
+		List<PendingConfigWrite> writes = new ArrayList<>(debouncedWrites.values());
+		if (writes.size() > 1 && !isDeadlineExceeded(deadline)) {
+			requestTimeout.set((int) Math.max(1, deadline - System.currentTimeMillis()));
+			try {
+				JsonNode response = this.doPost(getApiUrl(SolsticeCommand.CONFIG_COMMAND), createBatchBodyRequest(writes), JsonNode.class);
+				if (!response.has(SolsticeConstant.ERROR)) {
+					writes.forEach(write -> debouncedWrites.remove(write.getControlName(), write));
+					return;
+				}
+				logger.warn(String.format("The device has rejected the combined write of %d debounced properties: %s, sending them separately", writes.size(),
+						response.get(SolsticeConstant.ERROR).asText()));
+			} catch (Exception e) {
+				logger.warn(String.format("Error when sending the combined write of %d debounced properties, sending them separately", writes.size()), e);
+			} finally {
+				requestTimeout.remove();
+			}
+		}
+		for (PendingConfigWrite write : writes) {
+			if (isDeadlineExceeded(deadline)) {
+				break;
+			}
+			requestTimeout.set((int) Math.max(1, deadline - System.currentTimeMillis()));
+			try {
+				postConfigValue(getApiUrl(SolsticeCommand.CONFIG_COMMAND), write.getProperty(), write.getValue());
+				debouncedWrites.remove(write.getControlName(), write);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", write.getControlName()), e);
+			} finally {
+				requestTimeout.remove();
+			}
+		}
+		if (!debouncedWrites.isEmpty()) {
+			logger.error(String.format("The debounced writes of %s couldn't be sent before the adapter was destroyed, they are sent again on the next initialization",
+					String.join(SolsticeConstant.COMMA, debouncedWrites.keySet())));
+		}
+	}
+
+	/**
+	 * Schedules the debounced writes kept by {@link #flushDebouncedWrites(ScheduledExecutorService)} when the adapter was destroyed.
+	 */
+	private void scheduleUnsentWrites() {
+		for (DebouncedConfigWrite write : debouncedWrites.values()) {
+			if (controlWriteScheduler == null) {
+				logger.error(String.format("Dropping the unsent write of %s with value %s, the control debounce window is 0", write.getControlName(), write.getValue()));
+				debouncedWrites.remove(write.getControlName(), write);
+			} else {
+				write.setFuture(controlWriteScheduler.schedule(() -> sendDebouncedWrite(write), controlDebounceWindow, TimeUnit.MILLISECONDS));
+			}
+		}
+	}
+
+	/**
+	 * Sends a POST request to the Solstice Pod with a single configuration value.
+	 *
+	 * @param command the command to be sent in the POST request
+	 * @param property the Solstice property associated with the value
+	 * @param value the value to be sent in the request body
+	 * @throws IllegalArgumentException if the device responds with an error or if there is an issue with the request
+	 */
+	private void postConfigValue(String command, SolsticePropertiesList property, Object value) {
 		try {
 			JsonNode response = this.doPost(command, createBodyRequest(property.getApiGroupName(), property.getApiPropertyName(), value), JsonNode.class);
 			if (response.has(SolsticeConstant.ERROR)) {
@@ -979,7 +3377,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 			if (StringUtils.isNotNullOrEmpty(this.getPassword())) {
 				params.put(SolsticeConstant.PASSWORD, this.getPassword());
 			}
-			JsonNode response = this.doPost(String.format(SolsticeCommand.SET_DEFAULT_BACKGROUND, this.getHost()), params, JsonNode.class);
+			JsonNode response = this.doPost(getApiUrl(SolsticeCommand.SET_DEFAULT_BACKGROUND), params, JsonNode.class);
 			if (!isSuccessResponse(response)) {
 				throw new IllegalArgumentException("Can't control property SetDefaultBackground. The device has responded with an error.");
 			}
@@ -997,7 +3395,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 */
 	private void sendCommandClientQuickConnectAction(JsonNode rootNode) {
 		try {
-			JsonNode response = this.doPost(String.format(SolsticeCommand.CONFIG_COMMAND, this.getHost()), rootNode, JsonNode.class);
+			JsonNode response = this.doPost(getApiUrl(SolsticeCommand.CONFIG_COMMAND), rootNode, JsonNode.class);
 			if (response.has(SolsticeConstant.ERROR)) {
 				throw new IllegalArgumentException(
 						String.format("The device has responded with an error: %s", response.get(SolsticeConstant.ERROR).asText()));
@@ -1027,6 +3425,42 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 */
 	private String createBodyRequest(String groupName, String propertyName, Object value) {
 		ObjectNode valueNode = objectMapper.createObjectNode();
+		putBodyValue(valueNode, propertyName, value);
+		ObjectNode rootNode = objectMapper.createObjectNode();
+		if (this.getPassword() != null) {
+			rootNode.put(SolsticeConstant.PASSWORD, this.getPassword());
+		}
+		rootNode.put(groupName, valueNode);
+		return rootNode.toString();
+	}
+
+	/**
+	 * Creates the request body of a combined configuration write, with one object per API group.
+	 *
+	 * @param writes the configuration values to send
+	 * @return the JSON string representing the request body
+	 */
+	private String createBatchBodyRequest(List<PendingConfigWrite> writes) {
+		ObjectNode rootNode = objectMapper.createObjectNode();
+		if (this.getPassword() != null) {
+			rootNode.put(SolsticeConstant.PASSWORD, this.getPassword());
+		}
+		for (PendingConfigWrite write : writes) {
+			SolsticePropertiesList property = write.getProperty();
+			ObjectNode valueNode = rootNode.has(property.getApiGroupName()) ? (ObjectNode) rootNode.get(property.getApiGroupName()) : rootNode.putObject(property.getApiGroupName());
+			putBodyValue(valueNode, property.getApiPropertyName(), write.getValue());
+		}
+		return rootNode.toString();
+	}
+
+	/**
+	 * Puts a property value into a request body object, keeping the JSON type of the value.
+	 *
+	 * @param valueNode the object of the API group
+	 * @param propertyName the name of the property
+	 * @param value the value of the property
+	 */
+	private void putBodyValue(ObjectNode valueNode, String propertyName, Object value) {
 		switch (value.getClass().getSimpleName()) {
 			case SolsticeConstant.LONG:
 				valueNode.put(propertyName, Long.parseLong(value.toString()));
@@ -1041,28 +3475,17 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 				valueNode.put(propertyName, value.toString());
 				break;
 		}
-		ObjectNode rootNode = objectMapper.createObjectNode();
-		if (this.getPassword() != null) {
-			rootNode.put(SolsticeConstant.PASSWORD, this.getPassword());
-		}
-		rootNode.put(groupName, valueNode);
-		return rootNode.toString();
 	}
 
 	/**
-	 * Retrieves and populates the list of available time zones based on the provided config response.
+	 * Rebuilds the catalogue of available time zones when the time zones listed in the config response have changed.
+	 *
+	 * @param response the configuration response, may be null
 	 */
-	private void getAllAvailableTimeZones() {
-		availableTimeZones.clear();
-		TimeZone timeZone;
-		JsonNode timeZonesNode = configResponse.get(SolsticeConstant.SYSTEM_CURATION).get(SolsticeConstant.TIME_ZONES);
-		if (configResponse.has(SolsticeConstant.SYSTEM_CURATION) && configResponse.get(SolsticeConstant.SYSTEM_CURATION).has(SolsticeConstant.TIME_ZONES)) {
-			for (JsonNode timeZoneNode : timeZonesNode) {
-				if (timeZoneNode.has(SolsticeConstant.ID) && timeZoneNode.has(SolsticeConstant.NAME) && timeZoneNode.has(SolsticeConstant.OFFSET)) {
-					timeZone = new TimeZone(timeZoneNode.get(SolsticeConstant.ID).asText(), timeZoneNode.get(SolsticeConstant.NAME).asText(), timeZoneNode.get(SolsticeConstant.OFFSET).asInt());
-					availableTimeZones.add(timeZone);
-				}
-			}
+	private void getAllAvailableTimeZones(MonitoringResponse response) {
+		List<TimeZone> timeZones = response == null ? Collections.emptyList() : response.getTimeZones();
+		if (!timeZoneCatalogue.hasTimeZones(timeZones)) {
+			timeZoneCatalogue = new TimeZoneCatalogue(timeZones);
 		}
 	}
 
@@ -1073,9 +3496,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 * @return the name of the time zone corresponding to the given ID, or a default value if not found
 	 */
 	private String getTimeZoneNameById(String id) {
-		return availableTimeZones.stream()
-				.filter(tz -> tz.getId().equals(id))
-				.findFirst().map(TimeZone::getName).orElse(SolsticeConstant.DEFAULT_TIMEZONE_NAME);
+		return timeZoneCatalogue.getNameById(id, SolsticeConstant.DEFAULT_TIMEZONE_NAME);
 	}
 
 	/**
@@ -1085,9 +3506,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 * @return the ID of the time zone corresponding to the given name, or a default value if not found
 	 */
 	private String getIdByTimeZoneName(String name) {
-		return availableTimeZones.stream()
-				.filter(tz -> tz.getName().equals(name))
-				.findFirst().map(TimeZone::getId).orElse(SolsticeConstant.DEFAULT_TIMEZONE_ID);
+		return timeZoneCatalogue.getIdByName(name, SolsticeConstant.DEFAULT_TIMEZONE_ID);
 	}
 
 	/**
@@ -1100,15 +3519,11 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 */
 	private String getDateTimeFromFormattedString(String millis, String format, String zone) {
 		try {
-			Date date = new Date(Long.parseLong(millis));
-			SimpleDateFormat dateFormat = new SimpleDateFormat(format);
-			java.util.TimeZone timeZone = java.util.TimeZone.getTimeZone(zone);
-			dateFormat.setTimeZone(timeZone);
-			return dateFormat.format(date);
+			return DateTimeFormattingService.format(Long.parseLong(millis), format, zone);
 		} catch (NumberFormatException e) {
 			logger.error("Error while parsing millis: " + millis, e);
 			return SolsticeConstant.NONE;
-		} catch (IllegalArgumentException e) {
+		} catch (IllegalArgumentException | DateTimeException e) {
 			logger.error("Error while formatting date: " + e.getMessage(), e);
 			return SolsticeConstant.NONE;
 		}
@@ -1303,7 +3718,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 * @return The extracted hour as a formatted string with two digits (e.g., "13").
 	 */
 	private String getHour(String timeString) {
-		LocalTime localTime = LocalTime.parse(timeString, DateTimeFormatter.ofPattern(SolsticeConstant.TIME_24H_FORMAT));
+		LocalTime localTime = LocalTime.parse(timeString, DateTimeFormattingService.getFormatter(SolsticeConstant.TIME_24H_FORMAT));
 		return String.format(SolsticeConstant.NUMBER_FORMAT, localTime.getHour());
 	}
 
@@ -1314,7 +3729,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 * @return The extracted minutes as a formatted string with two digits (e.g., "45").
 	 */
 	private String getMinutes(String timeString) {
-		LocalTime localTime = LocalTime.parse(timeString, DateTimeFormatter.ofPattern(SolsticeConstant.TIME_24H_FORMAT));
+		LocalTime localTime = LocalTime.parse(timeString, DateTimeFormattingService.getFormatter(SolsticeConstant.TIME_24H_FORMAT));
 		return String.format(SolsticeConstant.NUMBER_FORMAT, localTime.getMinute());
 	}
 
@@ -1332,7 +3747,7 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 			int minutes = Integer.parseInt(minutesValue);
 
 			LocalTime localTime = LocalTime.of(hour, minutes);
-			return localTime.format(DateTimeFormatter.ofPattern(SolsticeConstant.TIME_24H_FORMAT));
+			return localTime.format(DateTimeFormattingService.getFormatter(SolsticeConstant.TIME_24H_FORMAT));
 		} catch (Exception e) {
 			throw new IllegalArgumentException("Can't control property. The value is invalid.", e);
 		}
@@ -1401,26 +3816,20 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	/**
 	 * Add advancedControllableProperties if advancedControllableProperties different empty
 	 *
-	 * @param advancedControllableProperties advancedControllableProperties is the list that store all controllable properties
+	 * @param advancedControllableProperties advancedControllableProperties is the registry that store all controllable properties
 	 * @param stats store all statistics
 	 * @param property the property is item advancedControllableProperties
 	 * @return String response
 	 * @throws IllegalStateException when exception occur
 	 */
-	private void addAdvanceControlProperties(List<AdvancedControllableProperty> advancedControllableProperties, Map<String, String> stats, AdvancedControllableProperty property, String value) {
+	private void addAdvanceControlProperties(ControllablePropertyRegistry advancedControllableProperties, Map<String, String> stats, AdvancedControllableProperty property, String value) {
 		if (property != null) {
-			for (AdvancedControllableProperty controllableProperty : advancedControllableProperties) {
-				if (controllableProperty.getName().equals(property.getName())) {
-					advancedControllableProperties.remove(controllableProperty);
-					break;
-				}
-			}
 			if (StringUtils.isNotNullOrEmpty(value)) {
 				stats.put(property.getName(), value);
 			} else {
 				stats.put(property.getName(), SolsticeConstant.EMPTY);
 			}
-			advancedControllableProperties.add(property);
+			advancedControllableProperties.put(property);
 		}
 	}
 
@@ -1507,37 +3916,39 @@ public class SolsticePodGen3Communicator extends RestCommunicator implements Mon
 	 * @param property is name of the metric
 	 * @param value the value is value of properties
 	 * @param extendedStatistics list statistics property
-	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties
-	 */
-	private void updateValueForTheControllableProperty(String property, String value, Map<String, String> extendedStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		if (!advancedControllableProperties.isEmpty()) {
-			for (AdvancedControllableProperty advancedControllableProperty : advancedControllableProperties) {
-				if (advancedControllableProperty.getName().equals(property)) {
-					extendedStatistics.remove(property);
-					extendedStatistics.put(property, value);
-					advancedControllableProperty.setValue(value);
-					break;
-				}
-			}
+	 * @param advancedControllableProperties the advancedControllableProperties is registry of AdvancedControllableProperties
+	 */
+	private void updateValueForTheControllableProperty(String property, String value, Map<String, String> extendedStatistics, ControllablePropertyRegistry advancedControllableProperties) {
+		AdvancedControllableProperty advancedControllableProperty = advancedControllableProperties.get(property);
+		if (advancedControllableProperty != null) {
+			extendedStatistics.remove(property);
+			extendedStatistics.put(property, value);
+			advancedControllableProperties.replace(copyWithValue(advancedControllableProperty, value));
 		}
 	}
 
+	/**
+	 * Creates a copy of a controllable property with another value.
+	 * The published properties are never modified, a control replaces them with an updated copy.
+	 *
+	 * @param property the controllable property
+	 * @param value the new value
+	 * @return the updated copy
+	 */
+	private AdvancedControllableProperty copyWithValue(AdvancedControllableProperty property, String value) {
+		return new AdvancedControllableProperty(property.getName(), new Date(), property.getType(), value);
+	}
+
 	/**
 	 * Remove the value for the control metric
 	 *
 	 * @param property is name of the metric
 	 * @param extendedStatistics list statistics property
-	 * @param advancedControllableProperties the advancedControllableProperties is list AdvancedControllableProperties
-	 */
-	private void removeValueForTheControllableProperty(String property, Map<String, String> extendedStatistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		if (!advancedControllableProperties.isEmpty()) {
-			for (AdvancedControllableProperty advancedControllableProperty : advancedControllableProperties) {
-				if (advancedControllableProperty.getName().equals(property)) {
-					extendedStatistics.remove(property);
-					advancedControllableProperties.remove(advancedControllableProperty);
-					break;
-				}
-			}
+	 * @param advancedControllableProperties the advancedControllableProperties is registry of AdvancedControllableProperties
+	 */
+	private void removeValueForTheControllableProperty(String property, Map<String, String> extendedStatistics, ControllablePropertyRegistry advancedControllableProperties) {
+		if (advancedControllableProperties.remove(property) != null) {
+			extendedStatistics.remove(property);
 		}
 	}
 }
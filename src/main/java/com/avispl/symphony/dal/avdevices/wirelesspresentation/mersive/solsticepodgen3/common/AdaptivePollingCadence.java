@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+/**
+ * Adapts the minimum interval between two requests of the monitoring endpoints to the activity of the room.
+ * The interval is 0, leaving the configured polling intervals in effect, while a session is active or right after a control.
+ * Every refresh finding the room idle doubles it, from the initial idle interval up to the ceiling.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class AdaptivePollingCadence {
+	private final long idleInterval;
+	private final long ceiling;
+	private long interval;
+	private boolean isActive = true;
+
+	/**
+	 * Constructs an AdaptivePollingCadence.
+	 *
+	 * @param idleInterval the interval after the first refresh finding the room idle, in milliseconds
+	 * @param ceiling the highest interval, in milliseconds
+	 */
+	public AdaptivePollingCadence(long idleInterval, long ceiling) {
+		this.idleInterval = idleInterval;
+		this.ceiling = Math.max(idleInterval, ceiling);
+	}
+
+	/**
+	 * Records a session activity or a control, going back to the configured polling intervals
+	 */
+	public synchronized void recordActivity() {
+		isActive = true;
+		interval = 0;
+	}
+
+	/**
+	 * Records a refresh finding the room idle, backing off exponentially up to the ceiling
+	 */
+	public synchronized void recordIdle() {
+		isActive = false;
+		interval = interval == 0 ? idleInterval : Math.min(ceiling, interval * 2);
+	}
+
+	/**
+	 * Retrieves {@link #interval}
+	 *
+	 * @return the current minimum interval between two requests of an endpoint in milliseconds, 0 while the room is active
+	 */
+	public synchronized long getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Retrieves {@link #isActive}
+	 *
+	 * @return whether the latest refresh found a session active, or a control has been sent since
+	 */
+	public synchronized boolean isActive() {
+		return isActive;
+	}
+}
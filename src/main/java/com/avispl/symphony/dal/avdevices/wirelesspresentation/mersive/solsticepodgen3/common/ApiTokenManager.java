@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.ApiToken;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Keeps the bearer token of the v2 API valid.
+ * The token is refreshed on the scheduler before the end of the lifetime reported by the device, so the polling cycles
+ * normally find a valid token. A token that is missing, expired or rejected by the device is refreshed on demand.
+ * Concurrent callers share a single in-flight refresh.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class ApiTokenManager {
+	private static final Log logger = LogFactory.getLog(ApiTokenManager.class);
+
+	private final Callable<ApiToken> tokenSource;
+	private final ScheduledExecutorService scheduler;
+	private final long refreshMargin;
+	private final long retryDelay;
+	private volatile ApiToken token;
+	private CompletableFuture<ApiToken> inFlightRefresh;
+	private ScheduledFuture<?> scheduledRefresh;
+
+	/**
+	 * Constructs an ApiTokenManager.
+	 *
+	 * @param tokenSource requests a new token from the device
+	 * @param scheduler the scheduler running the proactive refreshes
+	 * @param refreshMargin the time before the end of the token lifetime the token is refreshed, in milliseconds
+	 * @param retryDelay the delay before a failed proactive refresh is tried again, in milliseconds
+	 */
+	public ApiTokenManager(Callable<ApiToken> tokenSource, ScheduledExecutorService scheduler, long refreshMargin, long retryDelay) {
+		this.tokenSource = tokenSource;
+		this.scheduler = scheduler;
+		this.refreshMargin = refreshMargin;
+		this.retryDelay = retryDelay;
+	}
+
+	/**
+	 * Retrieves the current token without refreshing it.
+	 *
+	 * @return the current token, or null if there is none
+	 */
+	public String getCurrentToken() {
+		ApiToken current = token;
+		return current == null ? null : current.getValue();
+	}
+
+	/**
+	 * Retrieves a valid token, waiting for a refresh if the current token is missing or expired.
+	 *
+	 * @return the token, empty if the device didn't return any
+	 * @throws Exception if the token can't be requested
+	 */
+	public String getToken() throws Exception {
+		ApiToken current = token;
+		if (current != null && !current.isExpired()) {
+			return current.getValue();
+		}
+		return refresh(current).getValue();
+	}
+
+	/**
+	 * Drops a token rejected by the device and retrieves a valid one.
+	 * If the token has already been replaced since the rejected request was sent, the current token is kept.
+	 *
+	 * @param rejectedToken the token sent with the rejected request
+	 * @return the token to retry the request with
+	 * @throws Exception if the token can't be requested
+	 */
+	public String invalidate(String rejectedToken) throws Exception {
+		synchronized (this) {
+			ApiToken current = token;
+			if (current != null && current.getValue().equals(rejectedToken)) {
+				token = null;
+			}
+		}
+		return getToken();
+	}
+
+	/**
+	 * Cancels the scheduled refresh and drops the token.
+	 */
+	public synchronized void clear() {
+		if (scheduledRefresh != null) {
+			scheduledRefresh.cancel(false);
+			scheduledRefresh = null;
+		}
+		token = null;
+	}
+
+	/**
+	 * Requests a new token, or waits for the refresh already in flight.
+	 * If the token has already been replaced by a refresh completed in the meantime, the new token is returned without requesting another one.
+	 *
+	 * @param staleToken the token to replace, null if there is none
+	 * @return the new token
+	 * @throws Exception if the token can't be requested
+	 */
+	private ApiToken refresh(ApiToken staleToken) throws Exception {
+		CompletableFuture<ApiToken> refresh;
+		boolean isOwner = false;
+		synchronized (this) {
+			ApiToken current = token;
+			if (inFlightRefresh == null && current != null && current != staleToken && !current.isExpired()) {
+				return current;
+			}
+			if (inFlightRefresh == null) {
+				inFlightRefresh = new CompletableFuture<>();
+				isOwner = true;
+			}
+			refresh = inFlightRefresh;
+		}
+		if (isOwner) {
+			try {
+				ApiToken newToken = tokenSource.call();
+				if (StringUtils.isNotNullOrEmpty(newToken.getValue())) {
+					token = newToken;
+					scheduleRefresh(newToken);
+				}
+				refresh.complete(newToken);
+			} catch (Exception e) {
+				refresh.completeExceptionally(e);
+			} finally {
+				synchronized (this) {
+					inFlightRefresh = null;
+				}
+			}
+		}
+		try {
+			return refresh.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Schedules the refresh of a token before the end of its lifetime,
+	 * at the latest {@link #refreshMargin} before it expires and not before half of its lifetime.
+	 *
+	 * @param newToken the token to refresh
+	 */
+	private synchronized void scheduleRefresh(ApiToken newToken) {
+		long refreshAge = Math.max(newToken.getLifetime() - refreshMargin, newToken.getLifetime() / 2);
+		scheduleRefresh(newToken.getIssuedAt() + refreshAge - System.currentTimeMillis());
+	}
+
+	/**
+	 * Schedules a proactive refresh, replacing the one already scheduled.
+	 *
+	 * @param delay the delay before the refresh in milliseconds
+	 */
+	private synchronized void scheduleRefresh(long delay) {
+		if (scheduledRefresh != null) {
+			scheduledRefresh.cancel(false);
+		}
+		try {
+			scheduledRefresh = scheduler.schedule(this::refreshProactively, Math.max(0, delay), TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			logger.debug("Unable to schedule the refresh of the API token", e);
+			scheduledRefresh = null;
+		}
+	}
+
+	/**
+	 * Refreshes the token ahead of its expiry. If the refresh fails while the current token is still valid, it is tried again later,
+	 * otherwise the next caller refreshes the token on demand.
+	 */
+	private void refreshProactively() {
+		try {
+			refresh(token);
+		} catch (Exception e) {
+			logger.warn("Error when refreshing the API token", e);
+			ApiToken current = token;
+			if (current != null && !current.isExpired()) {
+				scheduleRefresh(retryDelay);
+			}
+		}
+	}
+}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticep
  * Created on 6/10/2023
  * @since 1.0.0
  */
-public enum BrowserLookInEnum {
+public enum BrowserLookInEnum implements NamedValueEnum {
 	ENABLED("Enabled", "1"),
 	DISABLED("Disabled", "0"),
 	RUNTIME("Determine at Runtime", "2"),
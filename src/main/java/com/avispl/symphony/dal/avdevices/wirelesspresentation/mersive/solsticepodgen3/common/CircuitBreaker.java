@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+/**
+ * Circuit breaker stopping the requests to a device that has become unreachable.
+ * The circuit opens after a number of consecutive failures. While it is open the requests fail fast, until the backoff has elapsed
+ * and a single probe is let through in the half-open state. A successful probe closes the circuit, a failed one opens it again
+ * with a doubled backoff, up to the maximum backoff.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class CircuitBreaker {
+	private final int failureThreshold;
+	private final long initialBackoff;
+	private final long maxBackoff;
+	private CircuitState state = CircuitState.CLOSED;
+	private int consecutiveFailures;
+	private long backoff;
+	private long nextProbeTime;
+
+	/**
+	 * Constructs a closed CircuitBreaker.
+	 *
+	 * @param failureThreshold the number of consecutive failures opening the circuit
+	 * @param initialBackoff the time before the first probe, in milliseconds
+	 * @param maxBackoff the maximum time between two probes, in milliseconds
+	 */
+	public CircuitBreaker(int failureThreshold, long initialBackoff, long maxBackoff) {
+		this.failureThreshold = failureThreshold;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * Checks whether a request can be sent. Once the backoff of an open circuit has elapsed, the circuit becomes half-open
+	 * and only the caller receiving true sends the probe.
+	 *
+	 * @return true if the circuit is closed or if the caller has to send the probe
+	 */
+	public synchronized boolean allowRequest() {
+		if (state == CircuitState.CLOSED) {
+			return true;
+		}
+		if (state == CircuitState.OPEN && System.currentTimeMillis() >= nextProbeTime) {
+			state = CircuitState.HALF_OPEN;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Records a successful request, closing the circuit.
+	 */
+	public synchronized void recordSuccess() {
+		state = CircuitState.CLOSED;
+		consecutiveFailures = 0;
+		backoff = 0;
+		nextProbeTime = 0;
+	}
+
+	/**
+	 * Records a failed request. The circuit opens when the failure threshold is reached, or again with a doubled backoff when the probe has failed.
+	 */
+	public synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == CircuitState.HALF_OPEN) {
+			backoff = Math.min(backoff * 2, maxBackoff);
+		} else if (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold) {
+			backoff = initialBackoff;
+		} else {
+			return;
+		}
+		state = CircuitState.OPEN;
+		nextProbeTime = System.currentTimeMillis() + backoff;
+	}
+
+	/**
+	 * Closes the circuit and forgets the failures.
+	 */
+	public void reset() {
+		recordSuccess();
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized CircuitState getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public synchronized int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #nextProbeTime}
+	 *
+	 * @return value of {@link #nextProbeTime}, 0 if the circuit is closed
+	 */
+	public synchronized long getNextProbeTime() {
+		return nextProbeTime;
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+/**
+ * State of the {@link CircuitBreaker} guarding the requests to the device
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public enum CircuitState {
+	/**
+	 * The device is reachable, requests are sent normally
+	 */
+	CLOSED("Closed"),
+	/**
+	 * The device is unreachable, requests fail fast until the next probe
+	 */
+	OPEN("Open"),
+	/**
+	 * A probe is checking whether the device is reachable again
+	 */
+	HALF_OPEN("HalfOpen");
+
+	private final String name;
+
+	CircuitState(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+/**
+ * Fast non-cryptographic hash of the response payloads, used to detect responses that haven't changed since the previous polling cycle
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public final class ContentHash {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private ContentHash() {
+	}
+
+	/**
+	 * Computes the 64-bit FNV-1a hash of a payload.
+	 *
+	 * @param payload the raw response bytes
+	 * @return the hash of the payload
+	 */
+	public static long hash(byte[] payload) {
+		long hash = FNV_OFFSET_BASIS;
+		for (byte value : payload) {
+			hash ^= value & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
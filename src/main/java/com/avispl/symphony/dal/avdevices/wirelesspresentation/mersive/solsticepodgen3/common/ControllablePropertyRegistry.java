@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * Insertion-ordered registry of the controllable properties, indexed by property name.
+ * A property added again replaces the previous one and moves to the end, the same order as removing it from a list and appending it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class ControllablePropertyRegistry {
+	private final Map<String, AdvancedControllableProperty> properties = new LinkedHashMap<>();
+
+	/**
+	 * Constructs an empty ControllablePropertyRegistry.
+	 */
+	public ControllablePropertyRegistry() {
+	}
+
+	/**
+	 * Constructs a ControllablePropertyRegistry containing the specified properties, in the same order.
+	 *
+	 * @param controllableProperties the controllable properties, may be null
+	 */
+	public ControllablePropertyRegistry(Collection<AdvancedControllableProperty> controllableProperties) {
+		if (controllableProperties != null) {
+			for (AdvancedControllableProperty property : controllableProperties) {
+				put(property);
+			}
+		}
+	}
+
+	/**
+	 * Constructs a copy of a ControllablePropertyRegistry.
+	 *
+	 * @param registry the registry to copy
+	 */
+	public ControllablePropertyRegistry(ControllablePropertyRegistry registry) {
+		properties.putAll(registry.properties);
+	}
+
+	/**
+	 * Adds a property, replacing the property with the same name.
+	 *
+	 * @param property the controllable property
+	 */
+	public void put(AdvancedControllableProperty property) {
+		properties.remove(property.getName());
+		properties.put(property.getName(), property);
+	}
+
+	/**
+	 * Replaces the property with the same name, keeping its position, or adds the property if there is none.
+	 *
+	 * @param property the controllable property
+	 */
+	public void replace(AdvancedControllableProperty property) {
+		properties.put(property.getName(), property);
+	}
+
+	/**
+	 * Retrieves a property by name.
+	 *
+	 * @param name the property name
+	 * @return the property, or null if there is no property with the name
+	 */
+	public AdvancedControllableProperty get(String name) {
+		return properties.get(name);
+	}
+
+	/**
+	 * Removes a property by name.
+	 *
+	 * @param name the property name
+	 * @return the removed property, or null if there was no property with the name
+	 */
+	public AdvancedControllableProperty remove(String name) {
+		return properties.remove(name);
+	}
+
+	/**
+	 * Checks whether the registry contains no property.
+	 *
+	 * @return true if the registry is empty
+	 */
+	public boolean isEmpty() {
+		return properties.isEmpty();
+	}
+
+	/**
+	 * Retrieves the properties mapped by name.
+	 *
+	 * @return unmodifiable view of the properties in insertion order
+	 */
+	public Map<String, AdvancedControllableProperty> asMap() {
+		return Collections.unmodifiableMap(properties);
+	}
+
+	/**
+	 * Retrieves the properties in the form expected by {@link com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics}.
+	 *
+	 * @return new list of the properties in insertion order
+	 */
+	public List<AdvancedControllableProperty> toList() {
+		return new ArrayList<>(properties.values());
+	}
+}
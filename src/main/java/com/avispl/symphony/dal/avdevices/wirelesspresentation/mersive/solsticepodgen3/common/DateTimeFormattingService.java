@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats the device date and time with {@link DateTimeFormatter} instances cached per {@link SolsticeConstant} format
+ * and {@link ZoneId} instances cached per device time zone name.
+ * The cached objects are immutable and shared by all the adapter instances of the JVM.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public final class DateTimeFormattingService {
+	private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+	private static final Map<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
+	private DateTimeFormattingService() {
+	}
+
+	/**
+	 * Retrieves the formatter of a pattern, creating it on first use.
+	 *
+	 * @param pattern the date time pattern, e.g. {@link SolsticeConstant#DATE_FORMAT}
+	 * @return the formatter of the pattern
+	 * @throws IllegalArgumentException if the pattern is invalid
+	 */
+	public static DateTimeFormatter getFormatter(String pattern) {
+		DateTimeFormatter formatter = FORMATTERS.get(pattern);
+		if (formatter == null) {
+			formatter = FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+		}
+		return formatter;
+	}
+
+	/**
+	 * Retrieves the zone of a device time zone name, creating it on first use.
+	 * The names are resolved the same way as by {@link TimeZone#getTimeZone(String)}, which accepts custom IDs such as "GMT-5:00"
+	 * and falls back to GMT for unknown names.
+	 *
+	 * @param zone the time zone name, e.g. "GMT-5:00"
+	 * @return the zone of the name
+	 */
+	public static ZoneId getZoneId(String zone) {
+		ZoneId zoneId = ZONE_IDS.get(zone);
+		if (zoneId == null) {
+			zoneId = ZONE_IDS.computeIfAbsent(zone, name -> TimeZone.getTimeZone(name).toZoneId());
+		}
+		return zoneId;
+	}
+
+	/**
+	 * Formats an epoch time in a time zone.
+	 *
+	 * @param epochMillis the time in milliseconds since the epoch, as reported by the device
+	 * @param pattern the date time pattern
+	 * @param zone the time zone name
+	 * @return the formatted date time
+	 */
+	public static String format(long epochMillis, String pattern, String zone) {
+		return getFormatter(pattern).format(Instant.ofEpochMilli(epochMillis).atZone(getZoneId(zone)));
+	}
+}
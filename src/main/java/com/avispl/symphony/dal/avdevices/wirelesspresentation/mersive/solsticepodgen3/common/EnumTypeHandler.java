@@ -4,37 +4,38 @@
 
 package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 
 /**
  * EnumTypeHandler class defined the enum for monitoring and controlling process
+ * The names and values of each enum class are computed once and kept in lookup tables.
  *
  * @author Harry / Symphony Dev Team<br>
  * Created on 6/14/2023
  * @since 1.0.0
  */
 public class EnumTypeHandler {
+	/**
+	 * Lookup tables of each enum class, computed on first use
+	 */
+	private static final ClassValue<EnumLookup> ENUM_LOOKUPS = new ClassValue<EnumLookup>() {
+		@Override
+		protected EnumLookup computeValue(Class<?> type) {
+			return new EnumLookup(type);
+		}
+	};
+
 	/**
 	 * Get an array of all enum names
+	 * The array is shared and must not be modified.
 	 *
 	 * @param enumType the enum type is enum class
 	 */
-	public static <T extends Enum<T>> String[] getEnumNames(Class<T> enumType) {
-		List<String> names = new ArrayList<>();
-		for (T c : enumType.getEnumConstants()) {
-			try {
-				Method method = c.getClass().getMethod("getName");
-				String name = (String) method.invoke(c); // getName executed
-				names.add(name);
-			} catch (Exception e) {
-				throw new ResourceNotReachableException("Error to convert enum " + enumType.getSimpleName() + " to names", e);
-			}
-		}
-		return names.toArray(new String[names.size()]);
+	public static <T extends Enum<T> & NamedEnum> String[] getEnumNames(Class<T> enumType) {
+		return ENUM_LOOKUPS.get(enumType).names;
 	}
 
 	/**
@@ -44,20 +45,12 @@ public class EnumTypeHandler {
 	 * @param name is String
 	 * @return T is metric instance
 	 */
-	public static <T extends Enum<T>> String getValueByName(Class<T> enumType, String name) {
-		try {
-			for (T metric : enumType.getEnumConstants()) {
-				Method methodName = metric.getClass().getMethod("getName");
-				String nameMetric = (String) methodName.invoke(metric); // getName executed
-				if (name.equals(nameMetric)) {
-					Method methodValue = metric.getClass().getMethod("getValue");
-					return methodValue.invoke(metric).toString();
-				}
-			}
+	public static <T extends Enum<T> & NamedValueEnum> String getValueByName(Class<T> enumType, String name) {
+		String value = ENUM_LOOKUPS.get(enumType).valuesByName.get(name);
+		if (value == null) {
 			throw new ResourceNotReachableException("Fail to get enum " + enumType.getSimpleName() + " with name is " + name);
-		} catch (Exception e) {
-			throw new ResourceNotReachableException(e.getMessage(), e);
 		}
+		return value;
 	}
 
 	/**
@@ -67,19 +60,38 @@ public class EnumTypeHandler {
 	 * @param value is String
 	 * @return T is metric instance
 	 */
-	public static <T extends Enum<T>> String getNameByValue(Class<T> enumType, String value) {
-		try {
-			for (T metric : enumType.getEnumConstants()) {
-				Method methodValue = metric.getClass().getMethod("getValue");
-				String valueMetric = methodValue.invoke(metric).toString(); // getName executed
-				if (value.equals(valueMetric)) {
-					Method methodName = metric.getClass().getMethod("getName");
-					return methodName.invoke(metric).toString();
+	public static <T extends Enum<T> & NamedValueEnum> String getNameByValue(Class<T> enumType, String value) {
+		String name = ENUM_LOOKUPS.get(enumType).namesByValue.get(value);
+		if (name == null) {
+			throw new ResourceNotReachableException("Fail to get enum " + enumType.getSimpleName() + " with value is " + value);
+		}
+		return name;
+	}
+
+	/**
+	 * Names and values of the constants of an enum class
+	 */
+	private static class EnumLookup {
+		private final String[] names;
+		private final Map<String, String> valuesByName = new HashMap<>();
+		private final Map<String, String> namesByValue = new HashMap<>();
+
+		/**
+		 * Builds the lookup tables of an enum class
+		 *
+		 * @param type the enum class
+		 */
+		private EnumLookup(Class<?> type) {
+			Object[] constants = type.getEnumConstants();
+			names = new String[constants.length];
+			for (int i = 0; i < constants.length; i++) {
+				names[i] = ((NamedEnum) constants[i]).getName();
+				if (constants[i] instanceof NamedValueEnum) {
+					String value = ((NamedValueEnum) constants[i]).getValue();
+					valuesByName.putIfAbsent(names[i], value);
+					namesByValue.putIfAbsent(value, names[i]);
 				}
 			}
-			throw new ResourceNotReachableException("Fail to get enum " + enumType.getSimpleName() + " with value is " + value);
-		} catch (Exception e) {
-			throw new ResourceNotReachableException(e.getMessage(), e);
 		}
 	}
 }
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticep
  * Created on 6/8/2023
  * @since 1.0.0
  */
-public enum HDMIOutputEnum {
+public enum HDMIOutputEnum implements NamedValueEnum {
 	MIRROR("Mirror", "1"),
 	EXTEND("Extend", "3"),
 	SEAMLESS_EXTEND("Seamless Extend", "2"),
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticep
  * Created on 6/13/2023
  * @since 1.0.0
  */
-public enum LanguageEnum {
+public enum LanguageEnum implements NamedValueEnum {
 	ARABIC("Arabic", "ar_SA"),
 	SIMPLIFIED_CHINESE("Simplified Chinese", "zh_CN"),
 	TRADITIONAL_CHINESE("Traditional Chinese", "zh_TW"),
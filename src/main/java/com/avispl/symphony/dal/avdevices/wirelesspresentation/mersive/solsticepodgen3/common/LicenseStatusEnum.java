@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticep
  * Created on 6/11/2023
  * @since 1.0.0
  */
-public enum LicenseStatusEnum {
+public enum LicenseStatusEnum implements NamedValueEnum {
 	NO_LICENSE("No license", "0"),
 	ERROR_READING_LICENSE("Error reading license", "1"),
 	LICENSE_OK("License OK", "2"),
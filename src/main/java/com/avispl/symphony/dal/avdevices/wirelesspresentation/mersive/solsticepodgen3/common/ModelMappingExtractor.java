@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Extracts the properties defined in the model mapping directly from the JSON responses.
+ * The property expressions (e.g. {@code get("m_networkCuration")?.get("sdsHostName")}) are compiled once into JSON paths,
+ * so no expression has to be evaluated while polling.
+ * Values are converted the same way as by the AggregatedDeviceProcessor: missing, null and empty values are skipped,
+ * value nodes are returned as text and container nodes as JSON.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class ModelMappingExtractor {
+	private static final Pattern EXPRESSION_PATTERN = Pattern.compile("^get\\(\"[^\"]+\"\\)(\\?\\.get\\(\"[^\"]+\"\\))*$");
+	private static final Pattern SEGMENT_PATTERN = Pattern.compile("get\\(\"([^\"]+)\"\\)");
+
+	private final String[] propertyNames;
+	private final String[][] propertyPaths;
+
+	/**
+	 * Constructs a ModelMappingExtractor from property expressions.
+	 *
+	 * @param propertyExpressions map of property name and mapping expression
+	 * @throws IllegalStateException if an expression is not a chain of {@code get("...")} calls
+	 */
+	public ModelMappingExtractor(Map<String, String> propertyExpressions) {
+		Map<String, String> sortedExpressions = new TreeMap<>(propertyExpressions);
+		propertyNames = new String[sortedExpressions.size()];
+		propertyPaths = new String[sortedExpressions.size()][];
+		int index = 0;
+		for (Map.Entry<String, String> entry : sortedExpressions.entrySet()) {
+			propertyNames[index] = entry.getKey();
+			propertyPaths[index] = compileExpression(entry.getKey(), entry.getValue());
+			index++;
+		}
+	}
+
+	/**
+	 * Creates a ModelMappingExtractor from the properties of all models of a mapping file.
+	 *
+	 * @param mapping the mapping loaded by the PropertiesMappingParser
+	 * @return the extractor of the mapping properties
+	 */
+	public static ModelMappingExtractor fromMapping(Map<String, PropertiesMapping> mapping) {
+		Map<String, String> propertyExpressions = new HashMap<>();
+		for (PropertiesMapping model : mapping.values()) {
+			if (model.getProperties() != null) {
+				propertyExpressions.putAll(model.getProperties());
+			}
+		}
+		return new ModelMappingExtractor(propertyExpressions);
+	}
+
+	/**
+	 * Extracts the mapping properties from a response.
+	 *
+	 * @param response the JSON response
+	 * @return map of property name and value
+	 */
+	public Map<String, String> extract(JsonNode response) {
+		Map<String, String> properties = new HashMap<>();
+		extract(response, properties);
+		return properties;
+	}
+
+	/**
+	 * Extracts the mapping properties from a response into the provided map.
+	 *
+	 * @param response the JSON response
+	 * @param properties map the property name and value pairs are put into
+	 */
+	public void extract(JsonNode response, Map<String, String> properties) {
+		if (response == null) {
+			return;
+		}
+		for (int i = 0; i < propertyNames.length; i++) {
+			JsonNode node = response;
+			for (String segment : propertyPaths[i]) {
+				node = node.get(segment);
+				if (node == null) {
+					break;
+				}
+			}
+			if (node == null || node.isNull()) {
+				continue;
+			}
+			String value = node.isValueNode() ? node.asText() : node.toString();
+			if (StringUtils.isNotNullOrEmpty(value)) {
+				properties.put(propertyNames[i], value);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the compiled JSON path of each property
+	 *
+	 * @return map of property name and JSON path segments
+	 */
+	public Map<String, String[]> getPropertyPaths() {
+		Map<String, String[]> paths = new TreeMap<>();
+		for (int i = 0; i < propertyNames.length; i++) {
+			paths.put(propertyNames[i], propertyPaths[i].clone());
+		}
+		return paths;
+	}
+
+	/**
+	 * Compiles a mapping expression into the segments of its JSON path.
+	 *
+	 * @param propertyName the name of the property
+	 * @param expression the mapping expression
+	 * @return the JSON path segments
+	 */
+	private static String[] compileExpression(String propertyName, String expression) {
+		String trimmedExpression = expression == null ? SolsticeConstant.EMPTY : expression.trim();
+		if (!EXPRESSION_PATTERN.matcher(trimmedExpression).matches()) {
+			throw new IllegalStateException(String.format("Unsupported mapping expression %s for property %s", expression, propertyName));
+		}
+		Matcher matcher = SEGMENT_PATTERN.matcher(trimmedExpression);
+		int count = 0;
+		while (matcher.find()) {
+			count++;
+		}
+		String[] segments = new String[count];
+		matcher.reset();
+		for (int i = 0; matcher.find(); i++) {
+			segments[i] = matcher.group(1);
+		}
+		return segments;
+	}
+}
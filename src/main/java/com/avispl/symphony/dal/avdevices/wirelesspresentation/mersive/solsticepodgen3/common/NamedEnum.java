@@ -0,0 +1,21 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+/**
+ * Enum constant with a display name, shown as a dropdown option
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public interface NamedEnum {
+	/**
+	 * Retrieves the display name of the constant
+	 *
+	 * @return the display name
+	 */
+	String getName();
+}
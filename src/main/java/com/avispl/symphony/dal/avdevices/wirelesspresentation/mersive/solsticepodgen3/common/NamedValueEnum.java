@@ -0,0 +1,21 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+/**
+ * Enum constant with a display name and the value used by the device API
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public interface NamedValueEnum extends NamedEnum {
+	/**
+	 * Retrieves the device API value of the constant
+	 *
+	 * @return the device API value
+	 */
+	String getValue();
+}
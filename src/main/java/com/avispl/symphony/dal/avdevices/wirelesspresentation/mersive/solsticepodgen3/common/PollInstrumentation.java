@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the duration of the phases of the polling cycles and the size of the responses, in rolling histograms,
+ * and publishes their median, 95th percentile and maximum as statistics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class PollInstrumentation {
+	private final int windowSize;
+	private final Map<String, RollingHistogram> phaseDurations = new ConcurrentHashMap<>();
+	private final Map<String, RollingHistogram> responseSizes = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PollInstrumentation.
+	 *
+	 * @param windowSize the number of latest samples kept per phase
+	 */
+	public PollInstrumentation(int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Records the duration of a phase.
+	 *
+	 * @param phase the phase name
+	 * @param startTime the {@link System#nanoTime()} at the start of the phase
+	 */
+	public void recordPhase(String phase, long startTime) {
+		phaseDurations.computeIfAbsent(phase, key -> new RollingHistogram(windowSize)).record(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Records the size of a response.
+	 *
+	 * @param endpoint the endpoint name
+	 * @param bytes the size of the response body in bytes
+	 */
+	public void recordResponseSize(String endpoint, long bytes) {
+		responseSizes.computeIfAbsent(endpoint, key -> new RollingHistogram(windowSize)).record(bytes);
+	}
+
+	/**
+	 * Populates the median, 95th percentile and maximum of every phase duration and response size.
+	 *
+	 * @param stats the statistics to populate
+	 */
+	public void populateStatistics(Map<String, String> stats) {
+		for (Map.Entry<String, RollingHistogram> entry : new TreeMap<>(phaseDurations).entrySet()) {
+			long[] values = entry.getValue().getPercentiles(50, 95, 100);
+			String prefix = SolsticeConstant.POLL_INSTRUMENTATION_GROUP + entry.getKey();
+			stats.put(prefix + SolsticeConstant.P50_MS, convertNanosToMillis(values[0]));
+			stats.put(prefix + SolsticeConstant.P95_MS, convertNanosToMillis(values[1]));
+			stats.put(prefix + SolsticeConstant.MAX_MS, convertNanosToMillis(values[2]));
+		}
+		for (Map.Entry<String, RollingHistogram> entry : new TreeMap<>(responseSizes).entrySet()) {
+			long[] values = entry.getValue().getPercentiles(50, 95, 100);
+			String prefix = SolsticeConstant.POLL_INSTRUMENTATION_GROUP + entry.getKey() + SolsticeConstant.RESPONSE_SIZE;
+			stats.put(prefix + SolsticeConstant.P50_BYTES, String.valueOf(values[0]));
+			stats.put(prefix + SolsticeConstant.P95_BYTES, String.valueOf(values[1]));
+			stats.put(prefix + SolsticeConstant.MAX_BYTES, String.valueOf(values[2]));
+		}
+	}
+
+	/**
+	 * Converts a duration to milliseconds with microsecond precision
+	 *
+	 * @param nanos the duration in nanoseconds
+	 * @return the duration in milliseconds
+	 */
+	private String convertNanosToMillis(long nanos) {
+		return String.valueOf(Math.round(nanos / 1000.0) / 1000.0);
+	}
+}
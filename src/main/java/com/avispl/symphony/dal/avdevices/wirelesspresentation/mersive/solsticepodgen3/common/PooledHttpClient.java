@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.NoopUserTokenHandler;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client keeping a pool of keep-alive connections to the device and resuming the TLS sessions of new connections,
+ * so that the requests of consecutive polling cycles don't pay a TCP connect and a full TLS handshake each.
+ * It counts the requests sent, the connections opened and the TLS handshakes, full or resumed.
+ * A TLS 1.3 handshake resuming a session creates a new session object, which the SSLSession API doesn't tell apart from a full handshake,
+ * so the TLS 1.3 handshakes are counted apart.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class PooledHttpClient {
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong openedConnections = new AtomicLong();
+	private final AtomicLong fullHandshakes = new AtomicLong();
+	private final AtomicLong resumedHandshakes = new AtomicLong();
+	private final AtomicLong tls13Handshakes = new AtomicLong();
+	private final CloseableHttpClient httpClient;
+	private volatile PollInstrumentation instrumentation;
+
+	/**
+	 * Constructs a PooledHttpClient.
+	 *
+	 * @param trustAllCertificates whether the device certificate is accepted without verification
+	 * @param timeout the connect, read and pool lease timeout in milliseconds, 0 for none
+	 * @param maxConnections the maximum number of connections to the device
+	 * @param keepAlive the time an idle connection is kept when the device doesn't specify one, in milliseconds
+	 * @param sessionCacheSize the number of TLS sessions kept for resumption
+	 * @param sessionTimeout the time a TLS session can be resumed, in seconds
+	 * @throws Exception if the TLS context can't be created
+	 */
+	public PooledHttpClient(boolean trustAllCertificates, int timeout, int maxConnections, long keepAlive, int sessionCacheSize, int sessionTimeout) throws Exception {
+		SSLContext sslContext = trustAllCertificates ? SSLContexts.custom().loadTrustMaterial(null, TrustAllStrategy.INSTANCE).build() : SSLContexts.createDefault();
+		SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+		if (sessionContext != null) {
+			sessionContext.setSessionCacheSize(sessionCacheSize);
+			sessionContext.setSessionTimeout(sessionTimeout);
+		}
+		SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext,
+				trustAllCertificates ? NoopHostnameVerifier.INSTANCE : SSLConnectionSocketFactory.getDefaultHostnameVerifier()) {
+			@Override
+			protected void prepareSocket(SSLSocket socket) throws IOException {
+				long handshakeStart = System.currentTimeMillis();
+				long handshakeStartTime = System.nanoTime();
+				socket.addHandshakeCompletedListener(event -> {
+					PollInstrumentation currentInstrumentation = instrumentation;
+					if (currentInstrumentation != null) {
+						currentInstrumentation.recordPhase(SolsticeConstant.TLS_HANDSHAKE_PHASE, handshakeStartTime);
+					}
+					if (SolsticeConstant.TLS_1_3.equals(event.getSession().getProtocol())) {
+						tls13Handshakes.incrementAndGet();
+					} else if (event.getSession().getCreationTime() < handshakeStart) {
+						// Up to TLS 1.2 a resumed handshake reuses the cached session, created by an earlier handshake
+						resumedHandshakes.incrementAndGet();
+					} else {
+						fullHandshakes.incrementAndGet();
+					}
+				});
+			}
+		};
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", sslSocketFactory)
+				.build();
+		HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = (route, config) -> {
+			openedConnections.incrementAndGet();
+			return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config == null ? ConnectionConfig.DEFAULT : config);
+		};
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry, connectionFactory);
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		connectionManager.setValidateAfterInactivity(SolsticeConstant.HTTP_VALIDATE_AFTER_INACTIVITY);
+
+		RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout(timeout)
+				.setSocketTimeout(timeout)
+				.setConnectionRequestTimeout(timeout)
+				.build();
+		httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.setKeepAliveStrategy((response, context) -> {
+					long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+					return duration > 0 ? duration : keepAlive;
+				})
+				.setUserTokenHandler(NoopUserTokenHandler.INSTANCE)
+				.addInterceptorFirst((HttpRequestInterceptor) (request, context) -> requests.incrementAndGet())
+				.evictExpiredConnections()
+				.evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+				.build();
+	}
+
+	/**
+	 * Retrieves {@link #httpClient}
+	 *
+	 * @return value of {@link #httpClient}
+	 */
+	public CloseableHttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	/**
+	 * Creates a RestTemplate sending its requests over the pooled connections, with the message converters, interceptors and error handler
+	 * of the RestTemplate configured by the adapter, e.g. the compression of the request bodies.
+	 *
+	 * @param baseTemplate the RestTemplate configured by the adapter
+	 * @param contextSupplier creates the context of each request, null to use the default one
+	 * @return the RestTemplate
+	 */
+	public RestTemplate createRestTemplate(RestTemplate baseTemplate, Supplier<HttpContext> contextSupplier) {
+		RestTemplate restTemplate = new RestTemplate(baseTemplate.getMessageConverters());
+		restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(httpClient) {
+			@Override
+			protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+				return contextSupplier == null ? null : contextSupplier.get();
+			}
+		});
+		restTemplate.setInterceptors(baseTemplate.getInterceptors());
+		restTemplate.setErrorHandler(baseTemplate.getErrorHandler());
+		restTemplate.setUriTemplateHandler(baseTemplate.getUriTemplateHandler());
+		return restTemplate;
+	}
+
+	/**
+	 * Sets {@link #instrumentation} value
+	 *
+	 * @param instrumentation records the duration of the TLS handshakes, null to disable it
+	 */
+	public void setInstrumentation(PollInstrumentation instrumentation) {
+		this.instrumentation = instrumentation;
+	}
+
+	/**
+	 * Retrieves the number of requests sent
+	 *
+	 * @return the number of requests
+	 */
+	public long getRequests() {
+		return requests.get();
+	}
+
+	/**
+	 * Retrieves the number of connections opened to the device
+	 *
+	 * @return the number of connections
+	 */
+	public long getOpenedConnections() {
+		return openedConnections.get();
+	}
+
+	/**
+	 * Retrieves the number of TLS handshakes up to TLS 1.2 that have negotiated a new session
+	 *
+	 * @return the number of full handshakes
+	 */
+	public long getFullHandshakes() {
+		return fullHandshakes.get();
+	}
+
+	/**
+	 * Retrieves the number of TLS handshakes up to TLS 1.2 that have resumed a cached session
+	 *
+	 * @return the number of resumed handshakes
+	 */
+	public long getResumedHandshakes() {
+		return resumedHandshakes.get();
+	}
+
+	/**
+	 * Retrieves the number of TLS 1.3 handshakes, full or resumed
+	 *
+	 * @return the number of TLS 1.3 handshakes
+	 */
+	public long getTls13Handshakes() {
+		return tls13Handshakes.get();
+	}
+
+	/**
+	 * Retrieves the share of the requests sent on a pooled connection instead of a new one.
+	 *
+	 * @return the pool hit rate in percent, 0 if no request has been sent
+	 */
+	public double getPoolHitRate() {
+		long requestCount = requests.get();
+		if (requestCount == 0) {
+			return 0;
+		}
+		return Math.max(0, requestCount - openedConnections.get()) * 100.0 / requestCount;
+	}
+
+	/**
+	 * Closes the pooled connections.
+	 */
+	public void close() {
+		try {
+			httpClient.close();
+		} catch (IOException e) {
+			// The connections are released anyway
+		}
+	}
+}
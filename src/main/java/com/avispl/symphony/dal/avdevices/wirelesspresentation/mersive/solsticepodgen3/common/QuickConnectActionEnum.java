@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticep
  * Created on 6/12/2023
  * @since 1.0.0
  */
-public enum QuickConnectActionEnum {
+public enum QuickConnectActionEnum implements NamedEnum {
 	AUTO_CONNECT("Launch Client and automatically connect to Display"),
 	AUTO_SDS("Launch Client and automatically set SDS for Client"),
 	LAUNCH_CLIENT("Launch Client"),
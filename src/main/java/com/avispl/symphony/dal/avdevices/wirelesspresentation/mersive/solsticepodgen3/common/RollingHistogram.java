@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the latest samples of a measurement in a ring buffer and computes their percentiles.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class RollingHistogram {
+	private final long[] samples;
+	private int count;
+	private int next;
+
+	/**
+	 * Constructs a RollingHistogram.
+	 *
+	 * @param windowSize the number of latest samples kept
+	 */
+	public RollingHistogram(int windowSize) {
+		this.samples = new long[windowSize];
+	}
+
+	/**
+	 * Records a sample, replacing the oldest one once the window is full.
+	 *
+	 * @param value the sample
+	 */
+	public synchronized void record(long value) {
+		samples[next] = value;
+		next = (next + 1) % samples.length;
+		if (count < samples.length) {
+			count++;
+		}
+	}
+
+	/**
+	 * Retrieves the number of samples in the window
+	 *
+	 * @return the number of samples
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * Computes the percentiles of the samples in the window, using the nearest rank.
+	 *
+	 * @param percentiles the percentiles to compute, between 0 and 100
+	 * @return the values of the percentiles in the same order, 0 if there is no sample
+	 */
+	public long[] getPercentiles(double... percentiles) {
+		long[] sorted;
+		synchronized (this) {
+			sorted = Arrays.copyOf(samples, count);
+		}
+		Arrays.sort(sorted);
+		long[] values = new long[percentiles.length];
+		if (sorted.length == 0) {
+			return values;
+		}
+		for (int i = 0; i < percentiles.length; i++) {
+			int rank = (int) Math.ceil(percentiles[i] / 100 * sorted.length);
+			values[i] = sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+		}
+		return values;
+	}
+}
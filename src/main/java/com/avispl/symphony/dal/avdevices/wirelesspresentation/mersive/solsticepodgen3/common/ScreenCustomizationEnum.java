@@ -13,7 +13,7 @@ import java.util.Arrays;
  * Created on 6/15/2023
  * @since 1.0.0
  */
-public enum ScreenCustomizationEnum {
+public enum ScreenCustomizationEnum implements NamedValueEnum {
 	DISPLAY_NAME_ON_MAIN_SCREEN("DisplayNameOnMainScreen", "1"),
 	DISPLAY_NAME_ON_PRESENCE_BAR("DisplayNameOnPresenceBar", "4"),
 	HOST_IP_ADDRESS_ON_MAIN_SCREEN("HostIPAddressOnMainScreen", "3"),
@@ -20,6 +20,7 @@ public class SolsticeConstant {
 	public static final String RESOURCE_RESTRICTION_GROUP = "ResourceRestriction#";
 	public static final String LICENSE_GROUP = "License#";
 	public static final String STATISTICS_GROUP = "Statistics#";
+	public static final String ADAPTER_METADATA_GROUP = "AdapterMetadata#";
 	public static final String REBOOT = "Reboot";
 	public static final String REBOOTING = "Rebooting";
 	public static final String RESET = "Reset";
@@ -65,6 +66,10 @@ public class SolsticeConstant {
 	public static final int MIN_RESIZE_IMAGES = 0;
 	public static final int MAX_RESIZE_IMAGES = 8;
 	public static final int NO_OF_MONITORING_COMMAND = 2;
+	public static final int MONITORING_THREAD_POOL_SIZE = 5;
+	public static final long DEFAULT_POLLING_INTERVAL = 0;
+	public static final long DEFAULT_BACKGROUND_POLLING_INTERVAL = 30;
+	public static final long BACKGROUND_POLLING_TERMINATION_TIMEOUT = 5;
 	public static final String NUMBER_ONE = "1";
 	public static final String AUTO_CONNECT = "Launch Client and automatically connect to Display";
 	public static final String AUTO_SDS = "Launch Client and automatically set SDS for Client";
@@ -95,4 +100,84 @@ public class SolsticeConstant {
 	public static final String SESSION_DATA = "SessionData";
 	public static final String LICENSING = "Licensing";
 	public static final String ACCESS_TOKEN = "access_token";
+	public static final String EXPIRES_IN = "expires_in";
+	public static final long DEFAULT_TOKEN_LIFETIME = 3000;
+	public static final long TOKEN_REFRESH_MARGIN = 60;
+	public static final long TOKEN_REFRESH_RETRY_DELAY = 30;
+	public static final String LAST_MONITORING_UPDATE = "LastMonitoringUpdate";
+	public static final String MONITORING_DATA_AGE = "MonitoringDataAge(s)";
+	public static final long DEFAULT_CONTROL_DEBOUNCE_WINDOW = 0;
+	public static final long CONTROL_WRITE_FLUSH_TIMEOUT = 5000;
+	public static final String WRITE_ERROR = "WriteError";
+	public static final String PING_MIN_LATENCY = "PingMinLatency(ms)";
+	public static final String PING_AVERAGE_LATENCY = "PingAverageLatency(ms)";
+	public static final String PING_MAX_LATENCY = "PingMaxLatency(ms)";
+	public static final String PING_JITTER = "PingJitter(ms)";
+	public static final String PING_SUCCESSFUL_ATTEMPTS = "PingSuccessfulAttempts";
+	public static final int HTTP_VALIDATE_AFTER_INACTIVITY = 1000;
+	public static final long HTTP_KEEP_ALIVE = 30000;
+	public static final int TLS_SESSION_CACHE_SIZE = 16;
+	public static final int TLS_SESSION_TIMEOUT = 86400;
+	public static final String HTTP_REQUESTS = "HTTPRequests";
+	public static final String HTTP_CONNECTIONS_OPENED = "HTTPConnectionsOpened";
+	public static final String HTTP_POOL_HIT_RATE = "HTTPPoolHitRate(%)";
+	public static final String TLS_FULL_HANDSHAKES = "TLSFullHandshakes";
+	public static final String TLS_RESUMED_HANDSHAKES = "TLSResumedHandshakes";
+	public static final String TLS13_HANDSHAKES = "TLS13Handshakes";
+	public static final String TLS_1_3 = "TLSv1.3";
+	public static final int HTTPS_PORT = 443;
+	public static final int MAX_PORT = 65535;
+	public static final String COLON = ":";
+	public static final int CIRCUIT_FAILURE_THRESHOLD = 2;
+	public static final long CIRCUIT_INITIAL_BACKOFF = 30;
+	public static final long CIRCUIT_MAX_BACKOFF = 600;
+	public static final String CIRCUIT_STATE = "CircuitState";
+	public static final String CIRCUIT_NEXT_PROBE = "CircuitNextProbe";
+	public static final String STALE_DATA = "StaleData";
+	public static final long DEFAULT_POLL_DEADLINE = 0;
+	public static final String STALE_ENDPOINTS = "StaleEndpoints";
+	public static final String STATISTICS_ENDPOINT = "Statistics";
+	public static final String CONFIGURATION_ENDPOINT = "Configuration";
+	public static final String CURRENT_SESSION_ENDPOINT = "CurrentSession";
+	public static final String CONNECTIONS_ENDPOINT = "Connections";
+	public static final int INSTRUMENTATION_WINDOW_SIZE = 256;
+	public static final String POLL_INSTRUMENTATION_GROUP = "PollInstrumentation#";
+	public static final String P50_MS = "P50(ms)";
+	public static final String P95_MS = "P95(ms)";
+	public static final String MAX_MS = "Max(ms)";
+	public static final String RESPONSE_SIZE = "ResponseSize";
+	public static final String P50_BYTES = "P50(bytes)";
+	public static final String P95_BYTES = "P95(bytes)";
+	public static final String MAX_BYTES = "Max(bytes)";
+	public static final String POLL_PHASE = "Poll";
+	public static final String POLL_LOCK_WAIT_PHASE = "PollLockWait";
+	public static final String CONTROL_LOCK_WAIT_PHASE = "ControlLockWait";
+	public static final String UPDATE_LOCAL_CACHING_PHASE = "UpdateLocalCaching";
+	public static final String POPULATE_PHASE = "PopulateMonitoringData";
+	public static final String TOKEN_CHECK_PHASE = "TokenCheck";
+	public static final String TOKEN_REFRESH_PHASE = "TokenRefresh";
+	public static final String PARSE_PHASE = "Parse";
+	public static final String TLS_HANDSHAKE_PHASE = "TLSHandshake";
+	public static final String SPACE = " ";
+	public static final String GZIP_EXTENSION = ".gz";
+	public static final String MASKED_VALUE = "******";
+	public static final double DEFAULT_TRAFFIC_REPLAY_TIME_SCALE = 1;
+	public static final String EQUAL = "=";
+	public static final String GENERIC_MODEL = "Generic";
+	public static final String DEVICE_MAKE = "Mersive";
+	public static final int DEFAULT_MAX_CONCURRENT_POLLS = 8;
+	public static final long DEFAULT_FLEET_POLLING_INTERVAL = 60;
+	public static final String MONITORED_PODS = "MonitoredPods";
+	public static final String ONLINE_PODS = "OnlinePods";
+	public static final String OPEN_CIRCUITS = "OpenCircuits";
+	public static final String ON_TIME_POLLS = "OnTimePolls";
+	public static final String LATE_POLLS = "LatePolls";
+	public static final String SKIPPED_POLLS = "SkippedPolls";
+	public static final long POLL_LATE_TOLERANCE = 1000;
+	public static final int BACKGROUND_POLLING_THREADS = 2;
+	public static final long DEFAULT_ADAPTIVE_POLLING_IDLE_INTERVAL = 60;
+	public static final long DEFAULT_ADAPTIVE_POLLING_CEILING = 900;
+	public static final String ACTIVE_SESSION_STATE = "active";
+	public static final String POLLING_CADENCE = "PollingCadence(s)";
+	public static final String SESSION_ACTIVE = "SessionActive";
 }
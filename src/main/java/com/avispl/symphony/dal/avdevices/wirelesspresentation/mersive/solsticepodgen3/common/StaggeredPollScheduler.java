@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Schedules recurring polls at fixed slots spread over the polling interval, so that pods configured together don't poll at the same instant.
+ * Each poll gets a slot of the interval and a deterministic jitter within its slot derived from its key, usually the host of the pod,
+ * so a poll keeps the same start offset across restarts while neighbouring hosts land apart.
+ * <p>
+ * The scheduler only dispatches the polls, which run on the executor. A poll starting more than the late tolerance after its slot is counted late.
+ * A slot is skipped, and counted, when the previous poll of the same key is still running or when the slot has passed before it could be dispatched.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class StaggeredPollScheduler {
+	private final ScheduledExecutorService scheduler;
+	private final Executor executor;
+	private final long interval;
+	private final long lateTolerance;
+	private final AtomicLong onTimePolls = new AtomicLong();
+	private final AtomicLong latePolls = new AtomicLong();
+	private final AtomicLong skippedPolls = new AtomicLong();
+	private volatile boolean isCancelled;
+
+	/**
+	 * Constructs a StaggeredPollScheduler.
+	 *
+	 * @param scheduler the scheduler dispatching the polls at their slots
+	 * @param executor the executor running the polls, can be the scheduler if it has a thread available to dispatch while a poll runs
+	 * @param interval the polling interval in milliseconds
+	 * @param lateTolerance the delay after its slot past which a poll is counted late, in milliseconds
+	 */
+	public StaggeredPollScheduler(ScheduledExecutorService scheduler, Executor executor, long interval, long lateTolerance) {
+		this.scheduler = scheduler;
+		this.executor = executor;
+		this.interval = interval;
+		this.lateTolerance = lateTolerance;
+	}
+
+	/**
+	 * Schedules a recurring poll.
+	 *
+	 * @param key the key of the poll, its jitter is derived from it
+	 * @param slot the slot of the poll, from 0 to slotCount - 1
+	 * @param slotCount the number of slots the interval is divided into, usually the number of polls scheduled
+	 * @param isDue whether the poll should run at a slot, the slots it declines are not counted
+	 * @param poll the poll
+	 */
+	public void schedule(String key, int slot, int slotCount, BooleanSupplier isDue, Runnable poll) {
+		long offset = getOffset(key, slot, slotCount, interval);
+		ScheduledPoll scheduledPoll = new ScheduledPoll(isDue, poll, System.currentTimeMillis() + offset);
+		try {
+			scheduler.schedule(() -> dispatch(scheduledPoll), offset, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			isCancelled = true;
+		}
+	}
+
+	/**
+	 * Stops dispatching the polls, the running polls complete
+	 */
+	public void cancel() {
+		isCancelled = true;
+	}
+
+	/**
+	 * Retrieves {@link #onTimePolls}
+	 *
+	 * @return value of {@link #onTimePolls}
+	 */
+	public long getOnTimePolls() {
+		return onTimePolls.get();
+	}
+
+	/**
+	 * Retrieves {@link #latePolls}
+	 *
+	 * @return value of {@link #latePolls}
+	 */
+	public long getLatePolls() {
+		return latePolls.get();
+	}
+
+	/**
+	 * Retrieves {@link #skippedPolls}
+	 *
+	 * @return value of {@link #skippedPolls}
+	 */
+	public long getSkippedPolls() {
+		return skippedPolls.get();
+	}
+
+	/**
+	 * Computes the start offset of a poll within the interval: the start of its slot plus a jitter within the slot derived from its key.
+	 *
+	 * @param key the key of the poll
+	 * @param slot the slot of the poll
+	 * @param slotCount the number of slots
+	 * @param interval the polling interval in milliseconds
+	 * @return the offset in milliseconds, between 0 and the interval
+	 */
+	public static long getOffset(String key, int slot, int slotCount, long interval) {
+		long slotWidth = Math.max(1, interval / Math.max(1, slotCount));
+		return Math.min(interval - 1, slot * slotWidth + Math.floorMod(mix(key.hashCode()), slotWidth));
+	}
+
+	/**
+	 * Dispatches a poll at its slot and schedules its next slot, skipping the slots that have already passed.
+	 *
+	 * @param scheduledPoll the poll
+	 */
+	private void dispatch(ScheduledPoll scheduledPoll) {
+		if (isCancelled) {
+			return;
+		}
+		long slotTime = scheduledPoll.nextSlotTime;
+		try {
+			if (scheduledPoll.isDue.getAsBoolean()) {
+				if (scheduledPoll.isRunning.compareAndSet(false, true)) {
+					executor.execute(() -> run(scheduledPoll, slotTime));
+				} else {
+					skippedPolls.incrementAndGet();
+				}
+			}
+			long now = System.currentTimeMillis();
+			long nextSlotTime = slotTime + interval;
+			while (nextSlotTime <= now) {
+				nextSlotTime += interval;
+				skippedPolls.incrementAndGet();
+			}
+			scheduledPoll.nextSlotTime = nextSlotTime;
+			scheduler.schedule(() -> dispatch(scheduledPoll), nextSlotTime - now, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			scheduledPoll.isRunning.set(false);
+			isCancelled = true;
+		}
+	}
+
+	/**
+	 * Runs a poll, counting it late if it starts more than the late tolerance after its slot.
+	 *
+	 * @param scheduledPoll the poll
+	 * @param slotTime the time of the slot the poll was dispatched for
+	 */
+	private void run(ScheduledPoll scheduledPoll, long slotTime) {
+		try {
+			if (System.currentTimeMillis() - slotTime > lateTolerance) {
+				latePolls.incrementAndGet();
+			} else {
+				onTimePolls.incrementAndGet();
+			}
+			scheduledPoll.poll.run();
+		} finally {
+			scheduledPoll.isRunning.set(false);
+		}
+	}
+
+	/**
+	 * Spreads the bits of a hash, so that keys differing by a single character get unrelated offsets
+	 *
+	 * @param hash the hash of the key
+	 * @return the mixed hash
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/**
+	 * Recurring poll and the state of its schedule
+	 */
+	private static class ScheduledPoll {
+		private final BooleanSupplier isDue;
+		private final Runnable poll;
+		private final AtomicBoolean isRunning = new AtomicBoolean();
+		private volatile long nextSlotTime;
+
+		/**
+		 * Constructs a ScheduledPoll.
+		 *
+		 * @param isDue whether the poll should run at a slot
+		 * @param poll the poll
+		 * @param firstSlotTime the time of the first slot
+		 */
+		private ScheduledPoll(BooleanSupplier isDue, Runnable poll, long firstSlotTime) {
+			this.isDue = isDue;
+			this.poll = poll;
+			this.nextSlotTime = firstSlotTime;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.MonitoringResponse;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TimeZone;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Parses the /api/config and /api/stats responses in a single pass with a streaming {@link JsonParser}.
+ * Only the paths of the model mapping properties and the time zone list are read, every other field is skipped
+ * without building a JSON tree.
+ * Values are converted the same way as by the {@link ModelMappingExtractor}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class StreamingResponseParser {
+	private final ObjectMapper objectMapper;
+	private final PathNode root = new PathNode();
+
+	/**
+	 * Constructs a StreamingResponseParser reading the provided property paths and time zone list.
+	 *
+	 * @param objectMapper the object mapper whose factory creates the parsers
+	 * @param propertyPaths map of property name and JSON path segments
+	 * @param timeZonesPath JSON path segments of the time zone list
+	 */
+	public StreamingResponseParser(ObjectMapper objectMapper, Map<String, String[]> propertyPaths, String... timeZonesPath) {
+		this.objectMapper = objectMapper;
+		for (Map.Entry<String, String[]> entry : propertyPaths.entrySet()) {
+			getOrCreateNode(entry.getValue()).propertyNames.add(entry.getKey());
+		}
+		getOrCreateNode(timeZonesPath).isTimeZones = true;
+	}
+
+	/**
+	 * Parses a response body.
+	 *
+	 * @param body the raw JSON response
+	 * @return the properties and time zones of the response
+	 * @throws IOException if the body is not valid JSON
+	 */
+	public MonitoringResponse parse(byte[] body) throws IOException {
+		return parse(body, ContentHash.hash(body));
+	}
+
+	/**
+	 * Parses a response body whose hash has already been computed.
+	 *
+	 * @param body the raw JSON response
+	 * @param contentHash the {@link ContentHash} of the body
+	 * @return the properties and time zones of the response
+	 * @throws IOException if the body is not valid JSON
+	 */
+	public MonitoringResponse parse(byte[] body, long contentHash) throws IOException {
+		Map<String, String> properties = new HashMap<>();
+		List<TimeZone> timeZones = new ArrayList<>();
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() == JsonToken.START_OBJECT) {
+				parseObject(parser, root, properties, timeZones);
+			}
+		}
+		return new MonitoringResponse(properties, timeZones, contentHash);
+	}
+
+	/**
+	 * Parses a response body, unless its hash is the same as the hash of a previous response of the same endpoint.
+	 *
+	 * @param body the raw JSON response
+	 * @param previousResponse the previous response of the endpoint, null if there is none
+	 * @return the previous response if the body hasn't changed, the newly parsed response otherwise
+	 * @throws IOException if the body is not valid JSON
+	 */
+	public MonitoringResponse parseChanged(byte[] body, MonitoringResponse previousResponse) throws IOException {
+		long contentHash = ContentHash.hash(body);
+		if (previousResponse != null && previousResponse.getContentHash() == contentHash) {
+			return previousResponse;
+		}
+		return parse(body, contentHash);
+	}
+
+	/**
+	 * Reads the fields of the current object that are part of the requested paths.
+	 *
+	 * @param parser the parser positioned on the START_OBJECT token
+	 * @param node the path node of the object
+	 * @param properties map the property values are put into
+	 * @param timeZones list the time zones are added to
+	 * @throws IOException if the JSON is invalid
+	 */
+	private void parseObject(JsonParser parser, PathNode node, Map<String, String> properties, List<TimeZone> timeZones) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			PathNode child = node.children.get(parser.getCurrentName());
+			JsonToken token = parser.nextToken();
+			if (child == null) {
+				parser.skipChildren();
+			} else if (!child.propertyNames.isEmpty()) {
+				String value = readValue(parser, token);
+				if (StringUtils.isNotNullOrEmpty(value)) {
+					for (String propertyName : child.propertyNames) {
+						properties.put(propertyName, value);
+					}
+				}
+			} else if (child.isTimeZones && token == JsonToken.START_ARRAY) {
+				parseTimeZones(parser, timeZones);
+			} else if (token == JsonToken.START_OBJECT) {
+				parseObject(parser, child, properties, timeZones);
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Reads the current value as text.
+	 *
+	 * @param parser the parser positioned on the value
+	 * @param token the current token
+	 * @return the value as text, the JSON of the value for objects and arrays, or null for null values
+	 * @throws IOException if the JSON is invalid
+	 */
+	private String readValue(JsonParser parser, JsonToken token) throws IOException {
+		switch (token) {
+			case VALUE_NULL:
+				return null;
+			case VALUE_NUMBER_FLOAT:
+				return String.valueOf(parser.getDoubleValue());
+			case START_OBJECT:
+			case START_ARRAY:
+				StringWriter writer = new StringWriter();
+				try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+					generator.copyCurrentStructure(parser);
+				}
+				return writer.toString();
+			default:
+				return parser.getText();
+		}
+	}
+
+	/**
+	 * Reads the time zone list.
+	 *
+	 * @param parser the parser positioned on the START_ARRAY token
+	 * @param timeZones list the time zones are added to
+	 * @throws IOException if the JSON is invalid
+	 */
+	private void parseTimeZones(JsonParser parser, List<TimeZone> timeZones) throws IOException {
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+			String id = null;
+			String name = null;
+			Integer offset = null;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (SolsticeConstant.ID.equals(field) && token.isScalarValue()) {
+					id = parser.getText();
+				} else if (SolsticeConstant.NAME.equals(field) && token.isScalarValue()) {
+					name = parser.getText();
+				} else if (SolsticeConstant.OFFSET.equals(field) && token.isScalarValue()) {
+					offset = parser.getValueAsInt();
+				} else {
+					parser.skipChildren();
+				}
+			}
+			if (id != null && name != null && offset != null) {
+				timeZones.add(new TimeZone(id, name, offset));
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the path node of a path, creating the missing nodes.
+	 *
+	 * @param path the JSON path segments
+	 * @return the path node
+	 */
+	private PathNode getOrCreateNode(String[] path) {
+		PathNode node = root;
+		for (String segment : path) {
+			node = node.children.computeIfAbsent(segment, key -> new PathNode());
+		}
+		return node;
+	}
+
+	/**
+	 * Node of the tree of requested JSON paths.
+	 */
+	private static class PathNode {
+		private final Map<String, PathNode> children = new HashMap<>();
+		private final List<String> propertyNames = new ArrayList<>();
+		private boolean isTimeZones;
+	}
+}
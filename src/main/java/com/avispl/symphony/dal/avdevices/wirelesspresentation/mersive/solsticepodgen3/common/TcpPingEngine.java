@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.PingResult;
+
+/**
+ * Measures the TCP connect latency of a device with non-blocking {@link SocketChannel} connections.
+ * All the attempts are started at once and completed by a single {@link Selector}, so a ping costs at most one timeout
+ * whatever the number of attempts. Latencies are measured with {@link System#nanoTime()}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public final class TcpPingEngine {
+
+	private TcpPingEngine() {
+	}
+
+	/**
+	 * Connects to an address with concurrent attempts and computes the latency distribution of the successful ones.
+	 *
+	 * @param host the device host
+	 * @param port the device port
+	 * @param attempts the number of connections to open
+	 * @param timeout the time the connections are given to complete, in milliseconds
+	 * @return the latency distribution of the successful attempts
+	 * @throws UnknownHostException if the host can't be resolved
+	 * @throws IOException the failure of the last attempt, a {@link SocketTimeoutException} if it didn't complete in time, if no attempt succeeded
+	 */
+	public static PingResult ping(String host, int port, int attempts, int timeout) throws IOException {
+		InetSocketAddress address = new InetSocketAddress(host, port);
+		if (address.isUnresolved()) {
+			throw new UnknownHostException(host);
+		}
+		int attemptCount = Math.max(1, attempts);
+		long[] latencies = new long[attemptCount];
+		long[] startTimes = new long[attemptCount];
+		SocketChannel[] channels = new SocketChannel[attemptCount];
+		IOException lastError = null;
+		int pending = 0;
+		try (Selector selector = Selector.open()) {
+			for (int i = 0; i < attemptCount; i++) {
+				latencies[i] = -1;
+				try {
+					channels[i] = SocketChannel.open();
+					channels[i].configureBlocking(false);
+					startTimes[i] = System.nanoTime();
+					if (channels[i].connect(address)) {
+						latencies[i] = System.nanoTime() - startTimes[i];
+					} else {
+						channels[i].register(selector, SelectionKey.OP_CONNECT, i);
+						pending++;
+					}
+				} catch (IOException e) {
+					lastError = e;
+				}
+			}
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+			while (pending > 0) {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining <= 0) {
+					break;
+				}
+				selector.select(remaining);
+				for (SelectionKey key : selector.selectedKeys()) {
+					int index = (Integer) key.attachment();
+					key.cancel();
+					pending--;
+					try {
+						if (channels[index].finishConnect()) {
+							latencies[index] = System.nanoTime() - startTimes[index];
+						}
+					} catch (IOException e) {
+						lastError = e;
+					}
+				}
+				selector.selectedKeys().clear();
+			}
+			if (pending > 0) {
+				lastError = new SocketTimeoutException(String.format("%d of %d connections to %s did not complete within %d ms", pending, attemptCount, address, timeout));
+			}
+		} finally {
+			for (SocketChannel channel : channels) {
+				closeQuietly(channel);
+			}
+		}
+		return computeResult(latencies, lastError);
+	}
+
+	/**
+	 * Computes the latency distribution of the successful attempts.
+	 * The jitter is the mean absolute difference between the latencies of consecutive successful attempts.
+	 *
+	 * @param latencies the latency of each attempt, -1 for the failed attempts
+	 * @param lastError the failure of the last failed attempt
+	 * @return the latency distribution
+	 * @throws IOException the last failure if no attempt succeeded
+	 */
+	private static PingResult computeResult(long[] latencies, IOException lastError) throws IOException {
+		int successfulAttempts = 0;
+		long min = Long.MAX_VALUE;
+		long max = 0;
+		long total = 0;
+		long totalDifference = 0;
+		long previous = -1;
+		for (long latency : latencies) {
+			if (latency < 0) {
+				continue;
+			}
+			successfulAttempts++;
+			min = Math.min(min, latency);
+			max = Math.max(max, latency);
+			total += latency;
+			if (previous >= 0) {
+				totalDifference += Math.abs(latency - previous);
+			}
+			previous = latency;
+		}
+		if (successfulAttempts == 0) {
+			throw lastError != null ? lastError : new SocketTimeoutException("No connection attempt completed");
+		}
+		long jitter = successfulAttempts > 1 ? totalDifference / (successfulAttempts - 1) : 0;
+		return new PingResult(latencies.length, successfulAttempts, min, total / successfulAttempts, max, jitter);
+	}
+
+	/**
+	 * Closes a channel, ignoring the errors.
+	 *
+	 * @param channel the channel, may be null
+	 */
+	private static void closeQuietly(SocketChannel channel) {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			// Nothing else to release
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TrafficRecord;
+
+/**
+ * Appends the requests sent to the device and their responses to a capture log, one JSON {@link TrafficRecord} per line.
+ * The log is gzip compressed if its path ends with {@link SolsticeConstant#GZIP_EXTENSION}.
+ * Each record is flushed as soon as it is written, so the log stays readable if the adapter is stopped abruptly.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class TrafficCapture implements Closeable {
+	private final ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+	private final Writer writer;
+	private final long startTime = System.currentTimeMillis();
+
+	/**
+	 * Constructs a TrafficCapture appending to a log file.
+	 *
+	 * @param path the path of the log file
+	 * @throws IOException if the log file can't be opened
+	 */
+	public TrafficCapture(String path) throws IOException {
+		OutputStream outputStream = new FileOutputStream(path, true);
+		if (path.endsWith(SolsticeConstant.GZIP_EXTENSION)) {
+			outputStream = new GZIPOutputStream(outputStream, true);
+		}
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Retrieves {@link #startTime}
+	 *
+	 * @return value of {@link #startTime}
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Appends a record to the log.
+	 *
+	 * @param record the request and its response
+	 * @throws IOException if the record can't be written
+	 */
+	public synchronized void record(TrafficRecord record) throws IOException {
+		writer.write(objectMapper.writeValueAsString(record));
+		writer.write('\n');
+		writer.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		writer.close();
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TrafficRecord;
+
+/**
+ * Serves the responses of a {@link TrafficCapture} log in place of the device.
+ * The records of each method and endpoint are served in their captured order, starting over once they are exhausted,
+ * so a short capture can drive any number of polling cycles.
+ * Their durations are scaled by a time scale: 1 replays the original timing, 0 replays without any delay.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class TrafficReplay {
+	private final Map<String, List<TrafficRecord>> records;
+	private final Map<String, AtomicInteger> positions = new HashMap<>();
+	private final double timeScale;
+
+	/**
+	 * Constructs a TrafficReplay.
+	 *
+	 * @param records the captured records in capture order
+	 * @param timeScale the factor applied to the captured durations
+	 */
+	public TrafficReplay(List<TrafficRecord> records, double timeScale) {
+		this.records = new HashMap<>();
+		for (TrafficRecord record : records) {
+			String key = getKey(record.getMethod(), record.getEndpoint());
+			this.records.computeIfAbsent(key, k -> new ArrayList<>()).add(record);
+			positions.putIfAbsent(key, new AtomicInteger());
+		}
+		this.timeScale = Math.max(0, timeScale);
+	}
+
+	/**
+	 * Loads a capture log, gzip compressed if its path ends with {@link SolsticeConstant#GZIP_EXTENSION}.
+	 *
+	 * @param path the path of the log file
+	 * @param timeScale the factor applied to the captured durations
+	 * @return the replay of the log
+	 * @throws IOException if the log can't be read or parsed
+	 */
+	public static TrafficReplay load(String path, double timeScale) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		List<TrafficRecord> records = new ArrayList<>();
+		InputStream inputStream = new FileInputStream(path);
+		if (path.endsWith(SolsticeConstant.GZIP_EXTENSION)) {
+			inputStream = new GZIPInputStream(inputStream);
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.trim().isEmpty()) {
+					records.add(objectMapper.readValue(line, TrafficRecord.class));
+				}
+			}
+		}
+		return new TrafficReplay(records, timeScale);
+	}
+
+	/**
+	 * Retrieves the next record of an endpoint.
+	 *
+	 * @param method the HTTP method of the request
+	 * @param endpoint the {@link SolsticeCommand} of the request
+	 * @return the next record, null if the endpoint has not been captured
+	 */
+	public TrafficRecord next(String method, String endpoint) {
+		String key = getKey(method, endpoint);
+		List<TrafficRecord> endpointRecords = records.get(key);
+		if (endpointRecords == null) {
+			return null;
+		}
+		return endpointRecords.get(Math.floorMod(positions.get(key).getAndIncrement(), endpointRecords.size()));
+	}
+
+	/**
+	 * Retrieves the delay of a record, its captured duration scaled by the time scale.
+	 *
+	 * @param record the record
+	 * @return the delay in nanoseconds
+	 */
+	public long getDelay(TrafficRecord record) {
+		return Math.round(TimeUnit.MICROSECONDS.toNanos(record.getDuration()) * timeScale);
+	}
+
+	/**
+	 * Retrieves the number of records loaded
+	 *
+	 * @return the number of records
+	 */
+	public int getRecordCount() {
+		return records.values().stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Builds the key of the records of an endpoint
+	 *
+	 * @param method the HTTP method of the request
+	 * @param endpoint the {@link SolsticeCommand} of the request
+	 * @return the key
+	 */
+	private String getKey(String method, String endpoint) {
+		return method + SolsticeConstant.SPACE + endpoint;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+/**
+ * Represents a bearer token of the v2 API together with its lifetime.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class ApiToken {
+	private final String value;
+	private final long issuedAt;
+	private final long lifetime;
+
+	/**
+	 * Constructs a new ApiToken object issued now.
+	 *
+	 * @param value the access token
+	 * @param lifetime the lifetime of the token in milliseconds
+	 */
+	public ApiToken(String value, long lifetime) {
+		this.value = value;
+		this.issuedAt = System.currentTimeMillis();
+		this.lifetime = lifetime;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #issuedAt}
+	 *
+	 * @return value of {@link #issuedAt}
+	 */
+	public long getIssuedAt() {
+		return issuedAt;
+	}
+
+	/**
+	 * Retrieves {@link #lifetime}
+	 *
+	 * @return value of {@link #lifetime}
+	 */
+	public long getLifetime() {
+		return lifetime;
+	}
+
+	/**
+	 * Checks whether the token has reached the end of its lifetime.
+	 *
+	 * @return true if the token has expired
+	 */
+	public boolean isExpired() {
+		return System.currentTimeMillis() - issuedAt >= lifetime;
+	}
+}
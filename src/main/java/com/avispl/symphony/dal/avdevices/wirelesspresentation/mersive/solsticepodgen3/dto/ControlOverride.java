@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * Represents the changes a control has made to the published snapshot: statistics, cached device values and controllable properties.
+ * A polling cycle that has started before the control merges these changes into the data it publishes,
+ * so that the response it retrieved before the control doesn't overwrite the new values.
+ * A null value means the entry has been removed by the control.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class ControlOverride {
+	private final long sequence;
+	private final Map<String, String> statistics;
+	private final Map<String, String> cachedValues;
+	private final Map<String, AdvancedControllableProperty> controllableProperties;
+
+	/**
+	 * Constructs a new ControlOverride object.
+	 *
+	 * @param sequence the sequence number of the control
+	 * @param statistics map of statistic name and new value
+	 * @param cachedValues map of cached property name and new value
+	 * @param controllableProperties map of controllable property name and new property
+	 */
+	public ControlOverride(long sequence, Map<String, String> statistics, Map<String, String> cachedValues, Map<String, AdvancedControllableProperty> controllableProperties) {
+		this.sequence = sequence;
+		this.statistics = Collections.unmodifiableMap(statistics);
+		this.cachedValues = Collections.unmodifiableMap(cachedValues);
+		this.controllableProperties = Collections.unmodifiableMap(controllableProperties);
+	}
+
+	/**
+	 * Retrieves {@link #sequence}
+	 *
+	 * @return value of {@link #sequence}
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Retrieves {@link #statistics}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@link #cachedValues}
+	 *
+	 * @return value of {@link #cachedValues}
+	 */
+	public Map<String, String> getCachedValues() {
+		return cachedValues;
+	}
+
+	/**
+	 * Retrieves {@link #controllableProperties}
+	 *
+	 * @return value of {@link #controllableProperties}
+	 */
+	public Map<String, AdvancedControllableProperty> getControllableProperties() {
+		return controllableProperties;
+	}
+}
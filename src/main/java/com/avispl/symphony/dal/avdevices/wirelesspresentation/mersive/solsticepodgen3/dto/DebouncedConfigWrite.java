@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+import java.util.concurrent.ScheduledFuture;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+
+/**
+ * Represents a control value held back until the end of its debounce window, then sent to the device if no newer value replaced it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class DebouncedConfigWrite extends PendingConfigWrite {
+	private final String displayValue;
+	private volatile ScheduledFuture<?> future;
+
+	/**
+	 * Constructs a new DebouncedConfigWrite object.
+	 *
+	 * @param property the property to write
+	 * @param value the value of the property, in the form expected by the device API
+	 * @param controlName the name of the controllable property, including its group
+	 * @param displayValue the value shown in the statistics until the write completes
+	 */
+	public DebouncedConfigWrite(SolsticePropertiesList property, Object value, String controlName, String displayValue) {
+		super(property, value, controlName);
+		this.displayValue = displayValue;
+	}
+
+	/**
+	 * Retrieves {@link #displayValue}
+	 *
+	 * @return value of {@link #displayValue}
+	 */
+	public String getDisplayValue() {
+		return displayValue;
+	}
+
+	/**
+	 * Retrieves {@link #future}
+	 *
+	 * @return value of {@link #future}
+	 */
+	public ScheduledFuture<?> getFuture() {
+		return future;
+	}
+
+	/**
+	 * Sets {@link #future} value
+	 *
+	 * @param future new value of {@link #future}
+	 */
+	public void setFuture(ScheduledFuture<?> future) {
+		this.future = future;
+	}
+}
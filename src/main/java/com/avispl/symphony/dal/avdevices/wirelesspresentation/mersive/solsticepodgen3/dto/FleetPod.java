@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitBreaker;
+
+/**
+ * Represents a pod polled by the fleet aggregator: its address and credentials, the device published for it,
+ * and the circuit breaker of its polling.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class FleetPod {
+	private final String host;
+	private final String password;
+	private final CircuitBreaker circuitBreaker;
+	private volatile AggregatedDevice device;
+
+	/**
+	 * Constructs a new FleetPod object.
+	 *
+	 * @param host the address of the pod, with its port if it is not the default HTTPS port
+	 * @param password the admin password of the pod, empty if there is none
+	 * @param circuitBreaker stops the polling of the pod while it is unreachable
+	 */
+	public FleetPod(String host, String password, CircuitBreaker circuitBreaker) {
+		this.host = host;
+		this.password = password;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	/**
+	 * Retrieves {@link #host}
+	 *
+	 * @return value of {@link #host}
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * Retrieves {@link #password}
+	 *
+	 * @return value of {@link #password}
+	 */
+	public String getPassword() {
+		return password;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreaker}
+	 *
+	 * @return value of {@link #circuitBreaker}
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * Retrieves {@link #device}
+	 *
+	 * @return value of {@link #device}, null until the pod has been polled once
+	 */
+	public AggregatedDevice getDevice() {
+		return device;
+	}
+
+	/**
+	 * Sets {@link #device} value
+	 *
+	 * @param device new value of {@link #device}
+	 */
+	public void setDevice(AggregatedDevice device) {
+		this.device = device;
+	}
+}
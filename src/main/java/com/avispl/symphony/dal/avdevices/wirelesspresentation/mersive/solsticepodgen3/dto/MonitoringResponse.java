@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the data kept from a monitoring response: the model mapping properties, the available time zones
+ * and the hash of the response body.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class MonitoringResponse {
+	private final Map<String, String> properties;
+	private final List<TimeZone> timeZones;
+	private final long contentHash;
+
+	/**
+	 * Constructs a new MonitoringResponse object with the specified properties, time zones and body hash.
+	 *
+	 * @param properties map of property name and value
+	 * @param timeZones the time zones listed in the response
+	 * @param contentHash the hash of the response body
+	 */
+	public MonitoringResponse(Map<String, String> properties, List<TimeZone> timeZones, long contentHash) {
+		this.properties = Collections.unmodifiableMap(properties);
+		this.timeZones = Collections.unmodifiableList(timeZones);
+		this.contentHash = contentHash;
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return value of {@link #properties}
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Retrieves {@link #timeZones}
+	 *
+	 * @return value of {@link #timeZones}
+	 */
+	public List<TimeZone> getTimeZones() {
+		return timeZones;
+	}
+
+	/**
+	 * Retrieves {@link #contentHash}
+	 *
+	 * @return value of {@link #contentHash}
+	 */
+	public long getContentHash() {
+		return contentHash;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+
+/**
+ * Represents a configuration value waiting to be sent to the device in a combined /api/config write,
+ * with the control that has queued it and the changes restoring the values published before that control, in case the write fails.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class PendingConfigWrite {
+	private final SolsticePropertiesList property;
+	private final Object value;
+	private String controlName;
+	private ControlOverride revert;
+
+	/**
+	 * Constructs a new PendingConfigWrite object with the specified property and value.
+	 *
+	 * @param property the property to write
+	 * @param value the value of the property, in the form expected by the device API
+	 */
+	public PendingConfigWrite(SolsticePropertiesList property, Object value) {
+		this.property = property;
+		this.value = value;
+	}
+
+	/**
+	 * Constructs a new PendingConfigWrite object with the specified property, value and control.
+	 *
+	 * @param property the property to write
+	 * @param value the value of the property, in the form expected by the device API
+	 * @param controlName the name of the controllable property, including its group
+	 */
+	public PendingConfigWrite(SolsticePropertiesList property, Object value, String controlName) {
+		this(property, value);
+		this.controlName = controlName;
+	}
+
+	/**
+	 * Retrieves {@link #property}
+	 *
+	 * @return value of {@link #property}
+	 */
+	public SolsticePropertiesList getProperty() {
+		return property;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #controlName}
+	 *
+	 * @return value of {@link #controlName}, null until the control that has queued the write is recorded
+	 */
+	public String getControlName() {
+		return controlName;
+	}
+
+	/**
+	 * Retrieves {@link #revert}
+	 *
+	 * @return value of {@link #revert}, null until the control that has queued the write is recorded
+	 */
+	public ControlOverride getRevert() {
+		return revert;
+	}
+
+	/**
+	 * Records the control that has queued the write.
+	 *
+	 * @param controlName the name of the controllable property, including its group
+	 * @param revert the changes restoring the values published before the control
+	 */
+	public void setRevert(String controlName, ControlOverride revert) {
+		this.controlName = controlName;
+		this.revert = revert;
+	}
+}
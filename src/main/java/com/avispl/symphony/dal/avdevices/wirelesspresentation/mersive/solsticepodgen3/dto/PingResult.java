@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+/**
+ * Represents the outcome of a TCP ping: the number of successful attempts and the distribution of their connect latencies.
+ * Latencies are in nanoseconds.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class PingResult {
+	private final int attempts;
+	private final int successfulAttempts;
+	private final long minLatency;
+	private final long averageLatency;
+	private final long maxLatency;
+	private final long jitter;
+
+	/**
+	 * Constructs a new PingResult object.
+	 *
+	 * @param attempts the number of attempts sent
+	 * @param successfulAttempts the number of attempts that connected within the timeout
+	 * @param minLatency the lowest connect latency
+	 * @param averageLatency the average connect latency
+	 * @param maxLatency the highest connect latency
+	 * @param jitter the mean difference between the latencies of consecutive attempts
+	 */
+	public PingResult(int attempts, int successfulAttempts, long minLatency, long averageLatency, long maxLatency, long jitter) {
+		this.attempts = attempts;
+		this.successfulAttempts = successfulAttempts;
+		this.minLatency = minLatency;
+		this.averageLatency = averageLatency;
+		this.maxLatency = maxLatency;
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Retrieves {@link #attempts}
+	 *
+	 * @return value of {@link #attempts}
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * Retrieves {@link #successfulAttempts}
+	 *
+	 * @return value of {@link #successfulAttempts}
+	 */
+	public int getSuccessfulAttempts() {
+		return successfulAttempts;
+	}
+
+	/**
+	 * Retrieves {@link #minLatency}
+	 *
+	 * @return value of {@link #minLatency}
+	 */
+	public long getMinLatency() {
+		return minLatency;
+	}
+
+	/**
+	 * Retrieves {@link #averageLatency}
+	 *
+	 * @return value of {@link #averageLatency}
+	 */
+	public long getAverageLatency() {
+		return averageLatency;
+	}
+
+	/**
+	 * Retrieves {@link #maxLatency}
+	 *
+	 * @return value of {@link #maxLatency}
+	 */
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	/**
+	 * Retrieves {@link #jitter}
+	 *
+	 * @return value of {@link #jitter}
+	 */
+	public long getJitter() {
+		return jitter;
+	}
+}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
 
+import java.util.Objects;
+
 /**
  * Represents a time zone with its ID, name, and offset.
  *
@@ -82,4 +84,27 @@ public class TimeZone {
 	public void setOffset(int offset) {
 		this.offset = offset;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		TimeZone timeZone = (TimeZone) o;
+		return offset == timeZone.offset && Objects.equals(id, timeZone.id) && Objects.equals(name, timeZone.name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, name, offset);
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable catalogue of the time zones available on the device, indexed by ID and by name.
+ * It is rebuilt only when the time zone list of the device changes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class TimeZoneCatalogue {
+	/**
+	 * Catalogue without any time zone
+	 */
+	public static final TimeZoneCatalogue EMPTY = new TimeZoneCatalogue(Collections.emptyList());
+
+	private final List<TimeZone> timeZones;
+	private final Map<String, String> namesById = new HashMap<>();
+	private final Map<String, String> idsByName = new HashMap<>();
+	private final String[] names;
+
+	/**
+	 * Constructs a new TimeZoneCatalogue object from the specified time zones.
+	 * If several time zones share an ID or a name, the first one is used for lookups.
+	 *
+	 * @param timeZones the time zones in the order they are listed by the device
+	 */
+	public TimeZoneCatalogue(List<TimeZone> timeZones) {
+		this.timeZones = Collections.unmodifiableList(new ArrayList<>(timeZones));
+		names = new String[timeZones.size()];
+		for (int i = 0; i < names.length; i++) {
+			TimeZone timeZone = timeZones.get(i);
+			names[i] = timeZone.getName();
+			namesById.putIfAbsent(timeZone.getId(), timeZone.getName());
+			idsByName.putIfAbsent(timeZone.getName(), timeZone.getId());
+		}
+	}
+
+	/**
+	 * Checks whether the catalogue has been built from the specified time zones.
+	 *
+	 * @param timeZones the time zones listed by the device
+	 * @return true if the catalogue contains the same time zones in the same order
+	 */
+	public boolean hasTimeZones(List<TimeZone> timeZones) {
+		return this.timeZones.equals(timeZones);
+	}
+
+	/**
+	 * Retrieves the name of a time zone.
+	 *
+	 * @param id the ID of the time zone
+	 * @param defaultName the name returned if no time zone has the ID
+	 * @return the name of the time zone
+	 */
+	public String getNameById(String id, String defaultName) {
+		String name = namesById.get(id);
+		return name == null ? defaultName : name;
+	}
+
+	/**
+	 * Retrieves the ID of a time zone.
+	 *
+	 * @param name the name of the time zone
+	 * @param defaultId the ID returned if no time zone has the name
+	 * @return the ID of the time zone
+	 */
+	public String getIdByName(String name, String defaultId) {
+		String id = idsByName.get(name);
+		return id == null ? defaultId : id;
+	}
+
+	/**
+	 * Retrieves the names of all time zones, used as the options of the time zone dropdown.
+	 * The array is shared and must not be modified.
+	 *
+	 * @return the time zone names in the order they are listed by the device
+	 */
+	public String[] getNames() {
+		return names;
+	}
+
+	/**
+	 * Retrieves {@link #timeZones}
+	 *
+	 * @return value of {@link #timeZones}
+	 */
+	public List<TimeZone> getTimeZones() {
+		return timeZones;
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto;
+
+/**
+ * Represents one request sent to the device and its response, as written to a traffic capture log.
+ * A status of 0 means that no response was received, {@link #error} then holds the failure.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class TrafficRecord {
+	private long time;
+	private String method;
+	private String endpoint;
+	private String uri;
+	private String request;
+	private int status;
+	private String body;
+	private String error;
+	private long duration;
+
+	/**
+	 * Retrieves {@link #time}
+	 *
+	 * @return value of {@link #time}, the start of the request in milliseconds since the start of the capture
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Sets {@link #time} value
+	 *
+	 * @param time new value of {@link #time}
+	 */
+	public void setTime(long time) {
+		this.time = time;
+	}
+
+	/**
+	 * Retrieves {@link #method}
+	 *
+	 * @return value of {@link #method}
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * Sets {@link #method} value
+	 *
+	 * @param method new value of {@link #method}
+	 */
+	public void setMethod(String method) {
+		this.method = method;
+	}
+
+	/**
+	 * Retrieves {@link #endpoint}
+	 *
+	 * @return value of {@link #endpoint}, the {@link com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand} of the request
+	 */
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	/**
+	 * Sets {@link #endpoint} value
+	 *
+	 * @param endpoint new value of {@link #endpoint}
+	 */
+	public void setEndpoint(String endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	/**
+	 * Retrieves {@link #uri}
+	 *
+	 * @return value of {@link #uri}, with the password masked
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Sets {@link #uri} value
+	 *
+	 * @param uri new value of {@link #uri}
+	 */
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	/**
+	 * Retrieves {@link #request}
+	 *
+	 * @return value of {@link #request}, the body of a POST request, null for the other requests
+	 */
+	public String getRequest() {
+		return request;
+	}
+
+	/**
+	 * Sets {@link #request} value
+	 *
+	 * @param request new value of {@link #request}
+	 */
+	public void setRequest(String request) {
+		this.request = request;
+	}
+
+	/**
+	 * Retrieves {@link #status}
+	 *
+	 * @return value of {@link #status}
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Sets {@link #status} value
+	 *
+	 * @param status new value of {@link #status}
+	 */
+	public void setStatus(int status) {
+		this.status = status;
+	}
+
+	/**
+	 * Retrieves {@link #body}
+	 *
+	 * @return value of {@link #body}
+	 */
+	public String getBody() {
+		return body;
+	}
+
+	/**
+	 * Sets {@link #body} value
+	 *
+	 * @param body new value of {@link #body}
+	 */
+	public void setBody(String body) {
+		this.body = body;
+	}
+
+	/**
+	 * Retrieves {@link #error}
+	 *
+	 * @return value of {@link #error}
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Sets {@link #error} value
+	 *
+	 * @param error new value of {@link #error}
+	 */
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	/**
+	 * Retrieves {@link #duration}
+	 *
+	 * @return value of {@link #duration}, in microseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Sets {@link #duration} value
+	 *
+	 * @param duration new value of {@link #duration}
+	 */
+	public void setDuration(long duration) {
+		this.duration = duration;
+	}
+}
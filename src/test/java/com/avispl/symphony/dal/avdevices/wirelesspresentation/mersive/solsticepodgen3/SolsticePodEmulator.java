@@ -0,0 +1,470 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+
+/**
+ * In-process HTTPS stand-in of a Solstice Pod, serving the /api and v2 endpoints used by {@link SolsticePodGen3Communicator}
+ * from the recorded responses of the test resources.
+ * The configuration is kept as mutable state, so the configuration writes are reflected in the following reads.
+ * The latency, jitter, transfer duration, error rate and payload size of the responses can be set to load the communicator without hardware,
+ * and single paths can be made slow or failing.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+public class SolsticePodEmulator {
+	private static final String API_PATH = "/api/";
+	private static final String CONFIG_PATH = "/api/config";
+	private static final String STATS_PATH = "/api/stats";
+	private static final String SPLASH_BACKGROUND_PATH = "/api/config/splashbackground";
+	private static final String RESET_KEY_PATH = "/api/control/resetkey";
+	private static final String PADDING = "m_emulatorPadding";
+	private static final String BEARER = "Bearer ";
+	private static final int TRANSFER_CHUNKS = 10;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final ObjectNode config;
+	private final ObjectNode stats;
+	private final ObjectNode currentSession;
+	private final ObjectNode licensing;
+	private final ObjectNode connections;
+	private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong tokenRequests = new AtomicLong();
+	private final Map<String, Long> pathLatencies = new ConcurrentHashMap<>();
+	private final Set<String> failingPaths = ConcurrentHashMap.newKeySet();
+	private final WireMockServer server;
+	private volatile String password = SolsticeConstant.EMPTY;
+	private volatile long latency;
+	private volatile long jitter;
+	private volatile double errorRate;
+	private volatile int payloadPadding;
+	private volatile long transferDuration;
+	private volatile long tokenLifetime = SolsticeConstant.DEFAULT_TOKEN_LIFETIME;
+	private volatile String rejectedConfigProperty;
+
+	/**
+	 * Constructs a SolsticePodEmulator listening on a free HTTPS port of the loopback interface, with the recorded device state.
+	 *
+	 * @throws Exception if the recorded responses can't be read
+	 */
+	public SolsticePodEmulator() throws Exception {
+		config = readFixture("/solstice/api-config.json");
+		stats = readFixture("/solstice/api-stats.json");
+		currentSession = readFixture("/solstice/api-current-session.json");
+		licensing = readFixture("/solstice/api-licensing.json");
+		connections = readFixture("/solstice/api-connections.json");
+		server = new WireMockServer(options()
+				.bindAddress("127.0.0.1")
+				.httpDisabled(true)
+				.dynamicHttpsPort()
+				.extensions(new SolsticePodTransformer()));
+	}
+
+	/**
+	 * Starts the server.
+	 */
+	public void start() {
+		server.start();
+		server.stubFor(any(anyUrl()).willReturn(aResponse().withStatus(404)));
+	}
+
+	/**
+	 * Stops the server.
+	 */
+	public void stop() {
+		server.stop();
+	}
+
+	/**
+	 * Retrieves the HTTPS port of the server, to be used as both the adapter port and the API port of the communicator
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.httpsPort();
+	}
+
+	/**
+	 * Points a communicator to the emulator. It must be called before {@link SolsticePodGen3Communicator#init()}.
+	 *
+	 * @param communicator the communicator
+	 */
+	public void configure(SolsticePodGen3Communicator communicator) {
+		communicator.setHost("127.0.0.1");
+		communicator.setProtocol("https");
+		communicator.setPort(getPort());
+		communicator.setApiPort(String.valueOf(getPort()));
+		communicator.setTrustAllCertificates(true);
+		communicator.setPassword(password);
+	}
+
+	/**
+	 * Sets {@link #password} value
+	 *
+	 * @param password the admin password the requests must provide, empty for none
+	 */
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+	/**
+	 * Sets {@link #latency} value
+	 *
+	 * @param latency the delay of every response in milliseconds
+	 */
+	public void setLatency(long latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Sets {@link #jitter} value
+	 *
+	 * @param jitter the maximum random deviation from the {@link #latency} in milliseconds
+	 */
+	public void setJitter(long jitter) {
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Sets {@link #errorRate} value
+	 *
+	 * @param errorRate the share of the requests answered with an internal server error, between 0 and 1
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * Sets {@link #payloadPadding} value
+	 *
+	 * @param payloadPadding the number of filler characters added to the /api/config and /api/stats responses
+	 */
+	public void setPayloadPadding(int payloadPadding) {
+		this.payloadPadding = payloadPadding;
+	}
+
+	/**
+	 * Sets {@link #transferDuration} value
+	 *
+	 * @param transferDuration the time taken to send every response body in chunks, in milliseconds, so a response can arrive late without idling the connection
+	 */
+	public void setTransferDuration(long transferDuration) {
+		this.transferDuration = transferDuration;
+	}
+
+	/**
+	 * Sets {@link #tokenLifetime} value
+	 *
+	 * @param tokenLifetime the lifetime of the issued API tokens in seconds
+	 */
+	public void setTokenLifetime(long tokenLifetime) {
+		this.tokenLifetime = tokenLifetime;
+	}
+
+	/**
+	 * Sets the latency of the responses of a single path, replacing the {@link #latency} and {@link #jitter}
+	 *
+	 * @param path the request path, e.g. /api/stats
+	 * @param latency the delay of the responses in milliseconds, negative to use the {@link #latency} again
+	 */
+	public void setPathLatency(String path, long latency) {
+		if (latency < 0) {
+			pathLatencies.remove(path);
+		} else {
+			pathLatencies.put(path, latency);
+		}
+	}
+
+	/**
+	 * Makes the requests of a single path fail with a server error
+	 *
+	 * @param path the request path, e.g. /api/stats
+	 * @param isFailing whether the requests of the path fail
+	 */
+	public void setPathFailing(String path, boolean isFailing) {
+		if (isFailing) {
+			failingPaths.add(path);
+		} else {
+			failingPaths.remove(path);
+		}
+	}
+
+	/**
+	 * Sets {@link #rejectedConfigProperty} value
+	 *
+	 * @param rejectedConfigProperty the configuration property the device refuses to write, a write containing it is rejected as a whole
+	 */
+	public void setRejectedConfigProperty(String rejectedConfigProperty) {
+		this.rejectedConfigProperty = rejectedConfigProperty;
+	}
+
+	/**
+	 * Retrieves a value of the device configuration
+	 *
+	 * @param group the configuration group
+	 * @param property the property name
+	 * @return the value as text
+	 */
+	public synchronized String getConfigValue(String group, String property) {
+		return config.get(group).get(property).asText();
+	}
+
+	/**
+	 * Sets a value of the device configuration, as if it was changed on the device
+	 *
+	 * @param group the configuration group
+	 * @param property the property name
+	 * @param value the new value
+	 */
+	public synchronized void setConfigValue(String group, String property, String value) {
+		config.with(group).put(property, value);
+	}
+
+	/**
+	 * Retrieves the number of requests received
+	 *
+	 * @return the number of requests
+	 */
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	/**
+	 * Retrieves the number of API token requests received
+	 *
+	 * @return the number of token requests
+	 */
+	public long getTokenRequestCount() {
+		return tokenRequests.get();
+	}
+
+	/**
+	 * Revokes the API tokens issued so far, as if the device was restarted, the requests sent with them are rejected
+	 */
+	public void revokeTokens() {
+		tokens.clear();
+	}
+
+	/**
+	 * Builds the response of a request from the device state.
+	 *
+	 * @param request the request
+	 * @return the response
+	 * @throws Exception if the request body is not valid JSON
+	 */
+	private ResponseDefinitionBuilder respond(Request request) throws Exception {
+		requests.incrementAndGet();
+		String path = getPath(request);
+		if (failingPaths.contains(path) || ThreadLocalRandom.current().nextDouble() < errorRate) {
+			return json(500, mapper.createObjectNode().put(SolsticeConstant.ERROR, "Emulated failure"));
+		}
+		if (path.startsWith(API_PATH)) {
+			return respondApi(request, path);
+		}
+		if (path.equals("/" + SolsticeCommand.AUTHENTICATION_COMMAND) && RequestMethod.POST.equals(request.getMethod())) {
+			tokenRequests.incrementAndGet();
+			if (!password.equals(getFormParameter(request.getBodyAsString(), SolsticeConstant.PASSWORD))) {
+				return json(401, mapper.createObjectNode().put(SolsticeConstant.ERROR, "invalid_grant"));
+			}
+			String token = UUID.randomUUID().toString();
+			tokens.add(token);
+			return json(200, mapper.createObjectNode().put(SolsticeConstant.ACCESS_TOKEN, token).put("token_type", "bearer").put(SolsticeConstant.EXPIRES_IN, tokenLifetime));
+		}
+		String authorization = request.getHeader("Authorization");
+		if (authorization == null || !authorization.startsWith(BEARER) || !tokens.contains(authorization.substring(BEARER.length()))) {
+			return json(401, mapper.createObjectNode().put(SolsticeConstant.ERROR, "unauthorized"));
+		}
+		if (path.equals("/" + SolsticeCommand.GET_CURRENT_SESSION_COMMAND)) {
+			return json(200, currentSession);
+		} else if (path.equals("/" + SolsticeCommand.GET_LICENSING_COMMAND)) {
+			return json(200, licensing);
+		} else if (path.equals("/" + SolsticeCommand.GET_CONNECTIONS_COMMAND)) {
+			return json(200, connections);
+		}
+		return json(404, mapper.createObjectNode());
+	}
+
+	/**
+	 * Builds the response of an /api request, checking the admin password.
+	 *
+	 * @param request the request
+	 * @param path the request path
+	 * @return the response
+	 * @throws Exception if the request body is not valid JSON
+	 */
+	private ResponseDefinitionBuilder respondApi(Request request, String path) throws Exception {
+		if (RequestMethod.GET.equals(request.getMethod())) {
+			QueryParameter passwordParameter = request.queryParameter(SolsticeConstant.PASSWORD);
+			if (!password.equals(passwordParameter.isPresent() ? passwordParameter.firstValue() : SolsticeConstant.EMPTY)) {
+				return json(401, mapper.createObjectNode());
+			}
+			if (path.equals(CONFIG_PATH)) {
+				synchronized (this) {
+					return json(200, pad(config.deepCopy()));
+				}
+			} else if (path.equals(STATS_PATH)) {
+				return json(200, pad(stats.deepCopy()));
+			}
+			return json(404, mapper.createObjectNode());
+		}
+		JsonNode body = mapper.readTree(request.getBodyAsString());
+		if (!password.equals(body.path(SolsticeConstant.PASSWORD).asText(SolsticeConstant.EMPTY))) {
+			return json(200, mapper.createObjectNode().put(SolsticeConstant.ERROR, "Invalid password"));
+		}
+		if (path.equals(SPLASH_BACKGROUND_PATH) || path.equals(RESET_KEY_PATH)) {
+			return json(200, mapper.createObjectNode().put(SolsticeConstant.RESULT, SolsticeConstant.SUCCESS));
+		} else if (path.equals(CONFIG_PATH)) {
+			for (JsonNode group : body) {
+				if (rejectedConfigProperty != null && group.has(rejectedConfigProperty)) {
+					return json(200, mapper.createObjectNode().put(SolsticeConstant.ERROR, "Invalid value of " + rejectedConfigProperty));
+				}
+			}
+			synchronized (this) {
+				for (Iterator<Map.Entry<String, JsonNode>> fields = body.fields(); fields.hasNext(); ) {
+					Map.Entry<String, JsonNode> group = fields.next();
+					if (group.getValue().isObject()) {
+						config.with(group.getKey()).setAll((ObjectNode) group.getValue());
+					}
+				}
+			}
+			return json(200, mapper.createObjectNode().put("passwordRequired", !password.isEmpty()));
+		}
+		return json(404, mapper.createObjectNode());
+	}
+
+	/**
+	 * Adds the filler property to a response.
+	 *
+	 * @param response the response
+	 * @return the padded response
+	 */
+	private ObjectNode pad(ObjectNode response) {
+		int padding = payloadPadding;
+		if (padding > 0) {
+			StringBuilder filler = new StringBuilder(padding);
+			for (int i = 0; i < padding; i++) {
+				filler.append('x');
+			}
+			response.put(PADDING, filler.toString());
+		}
+		return response;
+	}
+
+	/**
+	 * Builds a JSON response delayed by the {@link #latency} and a random {@link #jitter}, and sent over the {@link #transferDuration}.
+	 *
+	 * @param status the HTTP status
+	 * @param body the response body
+	 * @return the response
+	 * @throws Exception if the body can't be serialized
+	 */
+	private ResponseDefinitionBuilder json(int status, JsonNode body) throws Exception {
+		long delay = latency;
+		if (jitter > 0) {
+			delay += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+		}
+		ResponseDefinitionBuilder response = aResponse()
+				.withStatus(status)
+				.withHeader("Content-Type", "application/json")
+				.withBody(mapper.writeValueAsBytes(body))
+				.withFixedDelay((int) Math.max(0, delay));
+		if (transferDuration > 0) {
+			// A compressed body would be buffered and sent at once
+			response.withHeader("Content-Encoding", "identity").withChunkedDribbleDelay(TRANSFER_CHUNKS, (int) transferDuration);
+		}
+		return response;
+	}
+
+	/**
+	 * Reads a parameter of a form encoded request body.
+	 *
+	 * @param body the request body
+	 * @param name the parameter name
+	 * @return the decoded value, empty if it is missing
+	 * @throws Exception if the value can't be decoded
+	 */
+	private String getFormParameter(String body, String name) throws Exception {
+		for (String parameter : body.split("&")) {
+			String[] pair = parameter.split("=", 2);
+			if (pair[0].equals(name)) {
+				return pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8.name()) : SolsticeConstant.EMPTY;
+			}
+		}
+		return SolsticeConstant.EMPTY;
+	}
+
+	/**
+	 * Retrieves the path of a request, without the query string.
+	 *
+	 * @param request the request
+	 * @return the request path
+	 */
+	private String getPath(Request request) {
+		return request.getUrl().split("\\?")[0];
+	}
+
+	private ObjectNode readFixture(String path) throws Exception {
+		try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+			return (ObjectNode) mapper.readTree(inputStream);
+		}
+	}
+
+	/**
+	 * Answers every request received by the server from the emulated device state.
+	 */
+	private class SolsticePodTransformer extends ResponseDefinitionTransformer {
+		@Override
+		public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition, FileSource files, Parameters parameters) {
+			try {
+				ResponseDefinitionBuilder response = respond(request);
+				Long pathLatency = pathLatencies.get(getPath(request));
+				if (pathLatency != null) {
+					response.withFixedDelay(pathLatency.intValue());
+				}
+				return response.build();
+			} catch (Exception e) {
+				return aResponse().withStatus(400).withBody(String.valueOf(e.getMessage())).build();
+			}
+		}
+
+		@Override
+		public String getName() {
+			return "solstice-pod";
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.net.ServerSocket;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitState;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.StaggeredPollScheduler;
+
+/**
+ * Functional tests of {@link SolsticePodGen3Aggregator} against a fleet of {@link SolsticePodEmulator} pods.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@Tag("Mock")
+public class SolsticePodGen3AggregatorTest {
+	private SolsticePodEmulator healthyPod;
+	private SolsticePodEmulator slowPod;
+	private SolsticePodGen3Aggregator aggregator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		healthyPod = new SolsticePodEmulator();
+		healthyPod.setPassword("admin");
+		healthyPod.start();
+		slowPod = new SolsticePodEmulator();
+		slowPod.setPassword("secret");
+		slowPod.setLatency(5000);
+		slowPod.start();
+		aggregator = new SolsticePodGen3Aggregator();
+		aggregator.setHost("127.0.0.1");
+		aggregator.setPassword("admin");
+		aggregator.setTimeout(1000);
+	}
+
+	@AfterEach
+	void destroy() {
+		aggregator.destroy();
+		healthyPod.stop();
+		slowPod.stop();
+	}
+
+	/**
+	 * Every pod is published as an aggregated device, the slow and unreachable pods go offline without delaying the others.
+	 */
+	@Test
+	void testFailingPodsDontStallTheFleet() throws Exception {
+		String unreachablePod;
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			unreachablePod = "127.0.0.1:" + serverSocket.getLocalPort();
+		}
+		String pod = "127.0.0.1:" + healthyPod.getPort();
+		aggregator.setPods(String.join(",", "127.0.0.1:" + slowPod.getPort() + "=secret", unreachablePod, pod));
+		aggregator.setMaxConcurrentPolls("2");
+		aggregator.setFleetPollingInterval("3");
+		aggregator.init();
+
+		Map<String, AggregatedDevice> devices = waitForDevices(3);
+		Assertions.assertTrue(devices.get(pod).getDeviceOnline());
+		Assertions.assertEquals("Conference Room 4B", devices.get(pod).getDeviceName());
+		Assertions.assertEquals("Solstice Pod", devices.get(pod).getProperties().get(SolsticePropertiesList.PRODUCT_NAME.getName()));
+		Assertions.assertEquals(CircuitState.CLOSED.getName(), devices.get(pod).getProperties().get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE));
+		Assertions.assertNotNull(devices.get(pod).getProperties().get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.LAST_MONITORING_UPDATE));
+		Assertions.assertFalse(devices.get(unreachablePod).getDeviceOnline());
+		Assertions.assertFalse(devices.get("127.0.0.1:" + slowPod.getPort()).getDeviceOnline());
+
+		Map<String, String> statistics = ((ExtendedStatistics) aggregator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("3", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.MONITORED_PODS));
+		Assertions.assertEquals("1", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.ONLINE_PODS));
+		Assertions.assertEquals(1, aggregator.retrieveMultipleStatistics(Collections.singletonList(pod)).size());
+	}
+
+	/**
+	 * The polls of the pods start at distinct offsets spread over the interval, derived from the pod addresses only.
+	 */
+	@Test
+	void testPollsAreStaggeredOverTheInterval() throws Exception {
+		long interval = 60000;
+		long[] offsets = new long[4];
+		for (int slot = 0; slot < offsets.length; slot++) {
+			offsets[slot] = StaggeredPollScheduler.getOffset("10.34.41." + slot, slot, offsets.length, interval);
+			Assertions.assertEquals(offsets[slot], StaggeredPollScheduler.getOffset("10.34.41." + slot, slot, offsets.length, interval));
+			Assertions.assertTrue(offsets[slot] >= slot * interval / offsets.length && offsets[slot] < (slot + 1) * interval / offsets.length);
+		}
+
+		String pod = "127.0.0.1:" + healthyPod.getPort();
+		aggregator.setPods(pod);
+		aggregator.setFleetPollingInterval("1");
+		aggregator.init();
+		waitForDevices(1);
+		Thread.sleep(2500);
+		Map<String, String> statistics = ((ExtendedStatistics) aggregator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertTrue(Long.parseLong(statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.ON_TIME_POLLS)) >= 2);
+		Assertions.assertEquals("0", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.SKIPPED_POLLS));
+	}
+
+	private Map<String, AggregatedDevice> waitForDevices(int count) throws Exception {
+		long deadline = System.currentTimeMillis() + 10000;
+		List<AggregatedDevice> devices = aggregator.retrieveMultipleStatistics();
+		while (devices.size() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			devices = aggregator.retrieveMultipleStatistics();
+		}
+		Assertions.assertEquals(count, devices.size());
+		return devices.stream().collect(Collectors.toMap(AggregatedDevice::getDeviceId, device -> device));
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+
+/**
+ * Concurrency tests of {@link SolsticePodGen3Communicator} running against an in-memory device:
+ * controls must not wait for an in-flight polling cycle, and the published data must stay consistent
+ * with the device when controls and polling cycles run concurrently.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@Tag("Mock")
+public class SolsticePodGen3CommunicatorConcurrencyTest {
+	/**
+	 * Screen customization switches toggled by the stress test, each one sets a bit of the same connectionShowFlags value
+	 */
+	private static final SolsticePropertiesList[] SCREEN_SWITCHES = { SolsticePropertiesList.DISPLAY_NAME_ON_MAIN_SCREEN, SolsticePropertiesList.HOST_IP_ADDRESS_ON_MAIN_SCREEN,
+			SolsticePropertiesList.DISPLAY_NAME_ON_PRESENCE_BAR, SolsticePropertiesList.HOST_IP_ADDRESS_ON_PRESENCE_BAR };
+	private static final int[] SCREEN_SWITCH_BITS = { 1, 3, 4, 5 };
+
+	private FakeSolsticePod communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new FakeSolsticePod();
+		communicator.setHost("127.0.0.1");
+		communicator.setPassword("");
+		communicator.setConfigManagement("true");
+		communicator.init();
+		communicator.getMultipleStatistics();
+	}
+
+	@AfterEach
+	void destroy() {
+		communicator.destroy();
+	}
+
+	/**
+	 * A control sent while a polling cycle waits for the device is applied right away,
+	 * and the polling cycle doesn't overwrite the new value with the response it retrieved before the control.
+	 */
+	@Test
+	void testControlDoesNotWaitForInFlightPoll() throws Exception {
+		String controlName = SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getGroup() + SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getName();
+		Assertions.assertEquals("1", getControlValue(getStatistics(), controlName));
+
+		CountDownLatch configRequested = new CountDownLatch(1);
+		CountDownLatch releaseConfig = new CountDownLatch(1);
+		communicator.blockConfigRequest(configRequested, releaseConfig);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> poll = executor.submit(() -> {
+				communicator.getMultipleStatistics();
+				return null;
+			});
+			Assertions.assertTrue(configRequested.await(5, TimeUnit.SECONDS));
+
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(controlName);
+			controllableProperty.setValue("0");
+			Assertions.assertTimeoutPreemptively(Duration.ofSeconds(2), () -> communicator.controlProperty(controllableProperty));
+			Assertions.assertEquals("0", getControlValue(getStatistics(), controlName));
+
+			releaseConfig.countDown();
+			poll.get(5, TimeUnit.SECONDS);
+			Assertions.assertEquals("0", getControlValue(getStatistics(), controlName));
+			Assertions.assertEquals("false", communicator.getDeviceValue("m_networkCuration", "discoveryBroadcastEnabled"));
+		} finally {
+			releaseConfig.countDown();
+			executor.shutdownNow();
+		}
+
+		communicator.getMultipleStatistics();
+		Assertions.assertEquals("0", getControlValue(getStatistics(), controlName));
+	}
+
+	/**
+	 * Many threads toggle switches sharing the same device value while other threads keep polling.
+	 * No call may fail, and once the threads have completed the device and the published data must match the last value sent for every switch.
+	 */
+	@Test
+	void testConcurrentControlsAndPollsStayConsistent() throws Exception {
+		communicator.setRequestDelay(2);
+		int controlThreads = SCREEN_SWITCHES.length;
+		int pollThreads = 4;
+		int controlsPerThread = 100;
+		String[] lastValues = new String[controlThreads];
+		AtomicBoolean controlsDone = new AtomicBoolean();
+		ExecutorService executor = Executors.newFixedThreadPool(controlThreads + pollThreads);
+		try {
+			List<Future<?>> controls = new ArrayList<>();
+			for (int i = 0; i < controlThreads; i++) {
+				int index = i;
+				controls.add(executor.submit(() -> {
+					Random random = new Random(index);
+					String controlName = SCREEN_SWITCHES[index].getGroup() + SCREEN_SWITCHES[index].getName();
+					for (int n = 0; n < controlsPerThread; n++) {
+						String value = random.nextBoolean() ? "1" : "0";
+						ControllableProperty controllableProperty = new ControllableProperty();
+						controllableProperty.setProperty(controlName);
+						controllableProperty.setValue(value);
+						communicator.controlProperty(controllableProperty);
+						lastValues[index] = value;
+					}
+					return null;
+				}));
+			}
+			List<Future<?>> polls = new ArrayList<>();
+			for (int i = 0; i < pollThreads; i++) {
+				polls.add(executor.submit(() -> {
+					while (!controlsDone.get()) {
+						ExtendedStatistics statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+						Assertions.assertNotNull(statistics.getStatistics());
+						Assertions.assertNotNull(statistics.getControllableProperties());
+					}
+					return null;
+				}));
+			}
+			for (Future<?> control : controls) {
+				control.get(60, TimeUnit.SECONDS);
+			}
+			controlsDone.set(true);
+			for (Future<?> poll : polls) {
+				poll.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			controlsDone.set(true);
+			executor.shutdownNow();
+		}
+
+		long flags = Long.parseLong(communicator.getDeviceValue("m_networkCuration", "connectionShowFlags"));
+		for (int i = 0; i < controlThreads; i++) {
+			String controlName = SCREEN_SWITCHES[i].getGroup() + SCREEN_SWITCHES[i].getName();
+			Assertions.assertEquals(lastValues[i], String.valueOf((flags >> (SCREEN_SWITCH_BITS[i] - 1)) & 1), "Device value of " + controlName);
+			Assertions.assertEquals(lastValues[i], getControlValue(getStatistics(), controlName), "Published value of " + controlName);
+		}
+
+		// One polling cycle is skipped right after a control, the next one retrieves the device state again
+		communicator.getMultipleStatistics();
+		communicator.getMultipleStatistics();
+		for (int i = 0; i < controlThreads; i++) {
+			String controlName = SCREEN_SWITCHES[i].getGroup() + SCREEN_SWITCHES[i].getName();
+			Assertions.assertEquals(lastValues[i], getControlValue(getStatistics(), controlName), "Polled value of " + controlName);
+		}
+	}
+
+	private ExtendedStatistics getStatistics() throws Exception {
+		return communicator.getPublishedStatistics();
+	}
+
+	private String getControlValue(ExtendedStatistics statistics, String controlName) {
+		for (AdvancedControllableProperty property : statistics.getControllableProperties()) {
+			if (property.getName().equals(controlName)) {
+				return String.valueOf(property.getValue());
+			}
+		}
+		Assertions.fail("Controllable property not found: " + controlName);
+		return null;
+	}
+
+	/**
+	 * Communicator answering the requests from an in-memory device initialized with the recorded /api/config and /api/stats responses.
+	 * Configuration writes are merged into the device configuration.
+	 */
+	private static class FakeSolsticePod extends SolsticePodGen3Communicator {
+		private final ObjectMapper mapper = new ObjectMapper();
+		private final ObjectNode config;
+		private final byte[] stats;
+		private volatile long requestDelay;
+		private volatile CountDownLatch configRequested;
+		private volatile CountDownLatch releaseConfig;
+
+		FakeSolsticePod() throws Exception {
+			config = (ObjectNode) readFixture("/solstice/api-config.json");
+			stats = mapper.writeValueAsBytes(readFixture("/solstice/api-stats.json"));
+		}
+
+		void setRequestDelay(long requestDelay) {
+			this.requestDelay = requestDelay;
+		}
+
+		void blockConfigRequest(CountDownLatch configRequested, CountDownLatch releaseConfig) {
+			this.configRequested = configRequested;
+			this.releaseConfig = releaseConfig;
+		}
+
+		synchronized String getDeviceValue(String group, String property) {
+			return config.get(group).get(property).asText();
+		}
+
+		/**
+		 * Reads the published snapshot without starting a polling cycle.
+		 */
+		ExtendedStatistics getPublishedStatistics() throws Exception {
+			Field field = SolsticePodGen3Communicator.class.getDeclaredField("localExtendedStatistics");
+			field.setAccessible(true);
+			return (ExtendedStatistics) field.get(this);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+			byte[] body;
+			if (uri.startsWith(String.format(SolsticeCommand.CONFIG_COMMAND, getHost()))) {
+				synchronized (this) {
+					body = mapper.writeValueAsBytes(config);
+				}
+				CountDownLatch requested = configRequested;
+				CountDownLatch release = releaseConfig;
+				if (requested != null) {
+					configRequested = null;
+					requested.countDown();
+					release.await(5, TimeUnit.SECONDS);
+				}
+			} else if (uri.startsWith(String.format(SolsticeCommand.STATS_COMMAND, getHost()))) {
+				body = stats;
+			} else {
+				body = "{}".getBytes();
+			}
+			if (requestDelay > 0) {
+				Thread.sleep(requestDelay);
+			}
+			return responseClass == byte[].class ? (Response) body : mapper.readValue(body, responseClass);
+		}
+
+		@Override
+		protected <Request, Response> Response doPost(String uri, Request request, Class<Response> responseClass) throws Exception {
+			ObjectNode response = mapper.createObjectNode();
+			if (uri.equals(SolsticeCommand.AUTHENTICATION_COMMAND)) {
+				response.put(SolsticeConstant.ACCESS_TOKEN, "token");
+			} else if (uri.startsWith(String.format(SolsticeCommand.CONFIG_COMMAND, getHost()))) {
+				JsonNode body = request instanceof JsonNode ? (JsonNode) request : mapper.readTree(request.toString());
+				synchronized (this) {
+					for (Iterator<Map.Entry<String, JsonNode>> fields = body.fields(); fields.hasNext(); ) {
+						Map.Entry<String, JsonNode> group = fields.next();
+						if (group.getValue().isObject()) {
+							config.with(group.getKey()).setAll((ObjectNode) group.getValue());
+						}
+					}
+				}
+			}
+			return mapper.convertValue(response, responseClass);
+		}
+
+		private JsonNode readFixture(String path) throws Exception {
+			try (InputStream inputStream = getClass().getResourceAsStream(path)) {
+				return mapper.readTree(inputStream);
+			}
+		}
+	}
+}
@@ -0,0 +1,437 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.converter.xml.Jaxb2RootElementHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.CircuitState;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeCommand;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticeConstant;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common.SolsticePropertiesList;
+import com.avispl.symphony.dal.communicator.RestCommunicator;
+
+/**
+ * Functional tests of {@link SolsticePodGen3Communicator} over HTTPS against the {@link SolsticePodEmulator}, without hardware.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@Tag("Mock")
+public class SolsticePodGen3CommunicatorEmulatorTest {
+	private SolsticePodEmulator emulator;
+	private SolsticePodGen3Communicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		emulator = new SolsticePodEmulator();
+		emulator.setPassword("admin");
+		emulator.start();
+		communicator = new SolsticePodGen3Communicator();
+		emulator.configure(communicator);
+		communicator.setConfigManagement("true");
+	}
+
+	@AfterEach
+	void destroy() {
+		communicator.destroy();
+		emulator.stop();
+	}
+
+	/**
+	 * A polling cycle retrieves the /api and active routing endpoints, and the following cycles reuse the pooled connections.
+	 */
+	@Test
+	void testPollRetrievesAllEndpoints() throws Exception {
+		communicator.init();
+		Map<String, String> statistics = getStatistics();
+		Assertions.assertEquals("Solstice Pod", statistics.get(SolsticePropertiesList.PRODUCT_NAME.getName()));
+		Assertions.assertEquals("Presenter iPad (10.20.30.57)", statistics.get(SolsticeConstant.ACTIVE_ROUTING_GROUP + "Connection2"));
+		Assertions.assertEquals("True", statistics.get(SolsticeConstant.ACTIVE_ROUTING_GROUP + "Licensed"));
+
+		for (int i = 0; i < 5; i++) {
+			statistics = getStatistics();
+		}
+		Assertions.assertEquals("false", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA));
+		Assertions.assertTrue(Long.parseLong(statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.HTTP_CONNECTIONS_OPENED)) <= SolsticeConstant.MONITORING_THREAD_POOL_SIZE);
+	}
+
+	/**
+	 * The token check and the concurrent active routing requests of the polling cycles share a single API token request.
+	 */
+	@Test
+	void testConcurrentRequestsShareTokenRequest() throws Exception {
+		emulator.setLatency(200);
+		communicator.init();
+		for (int i = 0; i < 3; i++) {
+			Map<String, String> statistics = getStatistics();
+			Assertions.assertEquals(SolsticeConstant.NONE, statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_ENDPOINTS));
+		}
+		Assertions.assertEquals(1, emulator.getTokenRequestCount());
+	}
+
+	/**
+	 * Active routing requests rejected by the device are sent once more with a fresh token, requested once for all of them.
+	 */
+	@Test
+	void testRejectedTokenIsRefreshedOnce() throws Exception {
+		communicator.init();
+		getStatistics();
+		Assertions.assertEquals(1, emulator.getTokenRequestCount());
+
+		emulator.revokeTokens();
+		emulator.setLatency(200);
+		long requestCount = emulator.getRequestCount();
+		Map<String, String> statistics = getStatistics();
+		Assertions.assertEquals(2, emulator.getTokenRequestCount());
+		Assertions.assertEquals(SolsticeConstant.NONE, statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_ENDPOINTS));
+		Assertions.assertEquals("Presenter iPad (10.20.30.57)", statistics.get(SolsticeConstant.ACTIVE_ROUTING_GROUP + "Connection2"));
+		// /api/stats and /api/config, the three rejected active routing requests, the token request and the three retries
+		Assertions.assertEquals(requestCount + 9, emulator.getRequestCount());
+	}
+
+	/**
+	 * A control is written to the device configuration and read back by the following polling cycles.
+	 */
+	@Test
+	void testControlIsReflectedInLaterReads() throws Exception {
+		communicator.init();
+		String controlName = SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getGroup() + SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getName();
+		Assertions.assertEquals("1", getControlValue(controlName));
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(controlName);
+		controllableProperty.setValue("0");
+		communicator.controlProperty(controllableProperty);
+		Assertions.assertEquals("false", emulator.getConfigValue("m_networkCuration", "discoveryBroadcastEnabled"));
+
+		// One polling cycle is skipped right after a control, the next one retrieves the device state again
+		communicator.getMultipleStatistics();
+		Assertions.assertEquals("0", getControlValue(controlName));
+	}
+
+	/**
+	 * Unchanged responses are reused across the polling cycles, a change made on the device is published by the next cycle.
+	 */
+	@Test
+	void testDeviceChangeIsPublishedByNextCycle() throws Exception {
+		communicator.init();
+		String displayNameControl = SolsticePropertiesList.DISPLAY_NAME.getGroup() + SolsticePropertiesList.DISPLAY_NAME.getName();
+		Assertions.assertEquals("Conference Room 4B", getControlValue(displayNameControl));
+		Assertions.assertEquals("Conference Room 4B", getControlValue(displayNameControl));
+
+		emulator.setConfigValue("m_displayInformation", "m_displayName", "Lobby");
+		Assertions.assertEquals("Lobby", getControlValue(displayNameControl));
+	}
+
+	/**
+	 * The requests sent over the pooled connections keep the interceptors and message converters configured by the adapter, e.g. the compression of the request bodies.
+	 */
+	@Test
+	void testPooledRequestsKeepAdapterConfiguration() throws Exception {
+		communicator.setEnableCompression(true);
+		communicator.init();
+		getStatistics();
+		RestTemplate restTemplate = communicator.obtainRestTemplate();
+		Assertions.assertTrue(restTemplate.getInterceptors().stream().anyMatch(RestCommunicator.GzipHttpRequestInterceptor.class::isInstance));
+		Assertions.assertTrue(restTemplate.getMessageConverters().stream().anyMatch(Jaxb2RootElementHttpMessageConverter.class::isInstance));
+
+		writeDisplayName("Board Room");
+		Assertions.assertEquals("Board Room", emulator.getConfigValue("m_displayInformation", "m_displayName"));
+	}
+
+	/**
+	 * A write rejected by the device within a batch of controls reverts its control and reports the error, the other writes are kept.
+	 */
+	@Test
+	void testRejectedBatchWriteIsReverted() throws Exception {
+		communicator.init();
+		String broadcastControl = SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getGroup() + SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getName();
+		String displayNameControl = SolsticePropertiesList.DISPLAY_NAME.getGroup() + SolsticePropertiesList.DISPLAY_NAME.getName();
+		Assertions.assertEquals("Conference Room 4B", getControlValue(displayNameControl));
+
+		emulator.setRejectedConfigProperty("m_displayName");
+		ControllableProperty broadcast = new ControllableProperty();
+		broadcast.setProperty(broadcastControl);
+		broadcast.setValue("0");
+		ControllableProperty displayName = new ControllableProperty();
+		displayName.setProperty(displayNameControl);
+		displayName.setValue("Board Room");
+		communicator.controlProperties(Arrays.asList(broadcast, displayName));
+		Assertions.assertEquals("false", emulator.getConfigValue("m_networkCuration", "discoveryBroadcastEnabled"));
+		Assertions.assertEquals("Conference Room 4B", emulator.getConfigValue("m_displayInformation", "m_displayName"));
+
+		ExtendedStatistics published = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		String writeError = SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticePropertiesList.DISPLAY_NAME.getName() + SolsticeConstant.WRITE_ERROR;
+		Assertions.assertNotNull(published.getStatistics().get(writeError));
+		Assertions.assertEquals("Conference Room 4B", getControlValue(displayNameControl));
+		Assertions.assertEquals("0", getControlValue(broadcastControl));
+		Assertions.assertNotNull(getStatistics().get(writeError));
+
+		emulator.setRejectedConfigProperty(null);
+		communicator.controlProperties(Collections.singletonList(displayName));
+		Assertions.assertEquals("Board Room", emulator.getConfigValue("m_displayInformation", "m_displayName"));
+		Assertions.assertNull(getStatistics().get(writeError));
+	}
+
+	/**
+	 * The debounced writes still waiting are sent when the adapter is destroyed, within a bounded time even if the device is slow.
+	 */
+	@Test
+	void testDestroyFlushIsBounded() throws Exception {
+		communicator.setControlDebounceWindow("300");
+		communicator.init();
+		getStatistics();
+		writeDisplayName("Board Room");
+
+		emulator.setLatency(10000);
+		long start = System.currentTimeMillis();
+		communicator.destroy();
+		Assertions.assertTrue(System.currentTimeMillis() - start < SolsticeConstant.CONTROL_WRITE_FLUSH_TIMEOUT + 2000, "The destroy has exceeded the flush timeout");
+	}
+
+	/**
+	 * A debounced write that couldn't be sent when the adapter was destroyed is sent again after the next initialization.
+	 */
+	@Test
+	void testUnsentWriteIsSentAfterInit() throws Exception {
+		communicator.setControlDebounceWindow("300");
+		communicator.init();
+		getStatistics();
+		writeDisplayName("Board Room");
+
+		emulator.setRejectedConfigProperty("m_displayName");
+		communicator.destroy();
+		Assertions.assertEquals("Conference Room 4B", emulator.getConfigValue("m_displayInformation", "m_displayName"));
+
+		emulator.setRejectedConfigProperty(null);
+		communicator.init();
+		Thread.sleep(1000);
+		Assertions.assertEquals("Board Room", emulator.getConfigValue("m_displayInformation", "m_displayName"));
+	}
+
+	/**
+	 * A slow device doesn't hold the polling cycle beyond its deadline, the late endpoints keep their earlier data.
+	 */
+	@Test
+	void testSlowDeviceMissesPollDeadline() throws Exception {
+		communicator.setPollDeadline("500");
+		communicator.init();
+		Assertions.assertEquals("false", getStatistics().get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA));
+
+		emulator.setLatency(1500);
+		emulator.setJitter(100);
+		emulator.setPayloadPadding(64 * 1024);
+		long start = System.currentTimeMillis();
+		Map<String, String> statistics = getStatistics();
+		Assertions.assertTrue(System.currentTimeMillis() - start < 1500, "The polling cycle has exceeded its deadline");
+		Assertions.assertEquals("true", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA));
+		Assertions.assertEquals("Solstice Pod", statistics.get(SolsticePropertiesList.PRODUCT_NAME.getName()));
+	}
+
+	/**
+	 * A configuration change received after the deadline is applied by the next polling cycle, even if the body hasn't changed since.
+	 */
+	@Test
+	void testLateResponseIsAppliedByNextCycle() throws Exception {
+		emulator.setTransferDuration(100);
+		communicator.init();
+		String controlName = SolsticePropertiesList.DISPLAY_NAME.getGroup() + SolsticePropertiesList.DISPLAY_NAME.getName();
+		Assertions.assertEquals("Conference Room 4B", getControlValue(controlName));
+
+		communicator.setPollDeadline("500");
+		emulator.setConfigValue("m_displayInformation", "m_displayName", "Board Room");
+		emulator.setTransferDuration(1000);
+		Assertions.assertEquals("true", getStatistics().get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA));
+		// Lets the late responses arrive before the device answers in time again
+		Thread.sleep(1500);
+		emulator.setTransferDuration(0);
+		Assertions.assertEquals("Board Room", getControlValue(controlName));
+	}
+
+	/**
+	 * A device failing on every endpoint opens the circuit, the polling cycles then publish the earlier data marked as stale without sending requests.
+	 */
+	@Test
+	void testFailingDeviceOpensCircuit() throws Exception {
+		communicator.init();
+		getStatistics();
+
+		emulator.setErrorRate(1);
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> communicator.getMultipleStatistics());
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> communicator.getMultipleStatistics());
+		long requestCount = emulator.getRequestCount();
+		Map<String, String> statistics = getStatistics();
+		Assertions.assertEquals(requestCount, emulator.getRequestCount());
+		Assertions.assertEquals(CircuitState.OPEN.getName(), statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE));
+		Assertions.assertEquals("true", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA));
+		Assertions.assertEquals("Solstice Pod", statistics.get(SolsticePropertiesList.PRODUCT_NAME.getName()));
+	}
+
+	/**
+	 * A single endpoint missing the deadline or failing doesn't open the circuit while the device keeps answering, and the controls are still sent.
+	 */
+	@Test
+	void testDegradedEndpointKeepsCircuitClosed() throws Exception {
+		communicator.init();
+		getStatistics();
+
+		communicator.setPollDeadline("500");
+		emulator.setPathLatency("/api/stats", 1500);
+		for (int i = 0; i <= SolsticeConstant.CIRCUIT_FAILURE_THRESHOLD; i++) {
+			Map<String, String> statistics = getStatistics();
+			Assertions.assertNotEquals(SolsticeConstant.NONE, statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_ENDPOINTS));
+			Assertions.assertEquals(CircuitState.CLOSED.getName(), statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE));
+		}
+		emulator.setPathLatency("/api/stats", -1);
+
+		emulator.setPathFailing("/" + SolsticeCommand.GET_LICENSING_COMMAND, true);
+		for (int i = 0; i <= SolsticeConstant.CIRCUIT_FAILURE_THRESHOLD; i++) {
+			Assertions.assertEquals(CircuitState.CLOSED.getName(), getStatistics().get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE));
+		}
+		writeDisplayName("Board Room");
+		Assertions.assertEquals("Board Room", emulator.getConfigValue("m_displayInformation", "m_displayName"));
+	}
+
+	/**
+	 * A device whose endpoints all miss the deadline is unreachable even though its earlier data is published, and opens the circuit.
+	 */
+	@Test
+	void testSlowDeviceOpensCircuit() throws Exception {
+		communicator.init();
+		getStatistics();
+
+		communicator.setPollDeadline("500");
+		emulator.setLatency(1500);
+		for (int i = 0; i < SolsticeConstant.CIRCUIT_FAILURE_THRESHOLD; i++) {
+			Assertions.assertEquals("true", getStatistics().get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.STALE_DATA));
+		}
+		long requestCount = emulator.getRequestCount();
+		Map<String, String> statistics = getStatistics();
+		Assertions.assertEquals(requestCount, emulator.getRequestCount());
+		Assertions.assertEquals(CircuitState.OPEN.getName(), statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.CIRCUIT_STATE));
+	}
+
+	/**
+	 * Controls failing to reach the device open the circuit, the following controls are then refused without sending requests.
+	 */
+	@Test
+	void testFailingControlsOpenCircuit() throws Exception {
+		communicator.init();
+		getStatistics();
+
+		emulator.setErrorRate(1);
+		for (int i = 0; i < SolsticeConstant.CIRCUIT_FAILURE_THRESHOLD; i++) {
+			Assertions.assertThrows(IllegalArgumentException.class, () -> writeDisplayName("Board Room"));
+		}
+		long requestCount = emulator.getRequestCount();
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> writeDisplayName("Board Room"));
+		Assertions.assertEquals(requestCount, emulator.getRequestCount());
+	}
+
+	/**
+	 * A capture of the traffic with the emulator is replayed without it, with the same statistics and control results.
+	 */
+	@Test
+	void testCapturedTrafficIsReplayed() throws Exception {
+		Path captureFile = Files.createTempFile("solstice-capture", SolsticeConstant.GZIP_EXTENSION);
+		String password = "Pod-Admin-7431";
+		try {
+			emulator.setPassword(password);
+			communicator.setPassword(password);
+			communicator.setTrafficCaptureFile(captureFile.toString());
+			communicator.init();
+			Map<String, String> capturedStatistics = getStatistics();
+			String controlName = SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getGroup() + SolsticePropertiesList.BROADCAST_DISPLAY_NAME.getName();
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(controlName);
+			controllableProperty.setValue("0");
+			communicator.controlProperty(controllableProperty);
+			communicator.destroy();
+			emulator.stop();
+			String capture;
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(captureFile)), StandardCharsets.UTF_8))) {
+				capture = reader.lines().collect(Collectors.joining("\n"));
+			}
+			Assertions.assertTrue(capture.contains(SolsticeConstant.MASKED_VALUE));
+			Assertions.assertFalse(capture.contains(password));
+
+			SolsticePodGen3Communicator replayCommunicator = new SolsticePodGen3Communicator();
+			replayCommunicator.setHost("127.0.0.1");
+			replayCommunicator.setPassword(password);
+			replayCommunicator.setConfigManagement("true");
+			replayCommunicator.setTrafficReplayFile(captureFile.toString());
+			replayCommunicator.setTrafficReplayTimeScale("0");
+			replayCommunicator.init();
+			try {
+				Map<String, String> replayedStatistics = ((ExtendedStatistics) replayCommunicator.getMultipleStatistics().get(0)).getStatistics();
+				Assertions.assertEquals(capturedStatistics.get(SolsticePropertiesList.PRODUCT_NAME.getName()), replayedStatistics.get(SolsticePropertiesList.PRODUCT_NAME.getName()));
+				Assertions.assertEquals(capturedStatistics.get(SolsticeConstant.ACTIVE_ROUTING_GROUP + "Connection2"), replayedStatistics.get(SolsticeConstant.ACTIVE_ROUTING_GROUP + "Connection2"));
+				replayCommunicator.controlProperty(controllableProperty);
+			} finally {
+				replayCommunicator.destroy();
+			}
+		} finally {
+			Files.deleteIfExists(captureFile);
+		}
+	}
+
+	/**
+	 * An active session keeps the configured polling intervals, the adaptive cadence is published with the adapter metadata.
+	 */
+	@Test
+	void testActiveSessionKeepsPollingCadence() throws Exception {
+		communicator.setAdaptivePolling("true");
+		communicator.init();
+		getStatistics();
+		long requestCount = emulator.getRequestCount();
+		Map<String, String> statistics = getStatistics();
+		Assertions.assertTrue(emulator.getRequestCount() > requestCount);
+		Assertions.assertEquals("true", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.SESSION_ACTIVE));
+		Assertions.assertEquals("0", statistics.get(SolsticeConstant.ADAPTER_METADATA_GROUP + SolsticeConstant.POLLING_CADENCE));
+	}
+
+	private void writeDisplayName(String displayName) throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(SolsticePropertiesList.DISPLAY_NAME.getGroup() + SolsticePropertiesList.DISPLAY_NAME.getName());
+		controllableProperty.setValue(displayName);
+		communicator.controlProperty(controllableProperty);
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	private String getControlValue(String controlName) throws Exception {
+		for (AdvancedControllableProperty property : ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getControllableProperties()) {
+			if (property.getName().equals(controlName)) {
+				return String.valueOf(property.getValue());
+			}
+		}
+		Assertions.fail("Controllable property not found: " + controlName);
+		return null;
+	}
+}
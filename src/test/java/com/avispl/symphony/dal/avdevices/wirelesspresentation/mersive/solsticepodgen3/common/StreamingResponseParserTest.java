@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.MonitoringResponse;
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.TimeZone;
+
+/**
+ * Checks that the {@link StreamingResponseParser} extracts the same properties as the {@link ModelMappingExtractor} from a JSON tree,
+ * and reuses the previous response of an unchanged body.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@Tag("Mock")
+public class StreamingResponseParserTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ModelMappingExtractor modelMappingExtractor;
+	private StreamingResponseParser streamingResponseParser;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		modelMappingExtractor = ModelMappingExtractor.fromMapping(new PropertiesMappingParser().loadYML(SolsticeConstant.FILE_MAPPING, getClass()));
+		streamingResponseParser = new StreamingResponseParser(objectMapper, modelMappingExtractor.getPropertyPaths(), SolsticeConstant.SYSTEM_CURATION,
+				SolsticeConstant.TIME_ZONES);
+	}
+
+	/**
+	 * The recorded /api/config and /api/stats responses give the same properties with both parsers.
+	 */
+	@Test
+	void testRecordedResponsesMatchModelMappingExtractor() throws Exception {
+		for (String fixture : new String[] { "/solstice/api-config.json", "/solstice/api-stats.json" }) {
+			byte[] body = readFixture(fixture);
+			Map<String, String> expected = modelMappingExtractor.extract(objectMapper.readTree(body));
+			Assertions.assertFalse(expected.isEmpty());
+			Assertions.assertEquals(expected, streamingResponseParser.parse(body).getProperties(), fixture);
+		}
+	}
+
+	/**
+	 * The time zone list of the /api/config response is read in order, with the hash of the body.
+	 */
+	@Test
+	void testTimeZonesAreRead() throws Exception {
+		byte[] body = readFixture("/solstice/api-config.json");
+		List<TimeZone> expected = new ArrayList<>();
+		for (JsonNode timeZone : objectMapper.readTree(body).get(SolsticeConstant.SYSTEM_CURATION).get(SolsticeConstant.TIME_ZONES)) {
+			expected.add(new TimeZone(timeZone.get(SolsticeConstant.ID).asText(), timeZone.get(SolsticeConstant.NAME).asText(), timeZone.get(SolsticeConstant.OFFSET).asInt()));
+		}
+		MonitoringResponse response = streamingResponseParser.parse(body);
+		Assertions.assertFalse(expected.isEmpty());
+		Assertions.assertEquals(expected, response.getTimeZones());
+		Assertions.assertEquals(ContentHash.hash(body), response.getContentHash());
+	}
+
+	/**
+	 * Decimal, null, empty, object and array values, and paths crossing scalar values, are converted the same way by both parsers.
+	 */
+	@Test
+	void testValueConversionsMatchModelMappingExtractor() throws Exception {
+		Map<String, String> expressions = new HashMap<>();
+		expressions.put("Decimal", "get(\"values\")?.get(\"decimal\")");
+		expressions.put("Integer", "get(\"values\")?.get(\"integer\")");
+		expressions.put("Boolean", "get(\"values\")?.get(\"boolean\")");
+		expressions.put("Null", "get(\"values\")?.get(\"null\")");
+		expressions.put("Empty", "get(\"values\")?.get(\"empty\")");
+		expressions.put("Object", "get(\"values\")?.get(\"object\")");
+		expressions.put("Array", "get(\"values\")?.get(\"array\")");
+		expressions.put("ThroughScalar", "get(\"values\")?.get(\"integer\")?.get(\"missing\")");
+		expressions.put("ThroughArray", "get(\"values\")?.get(\"array\")?.get(\"missing\")");
+		expressions.put("Missing", "get(\"missing\")?.get(\"value\")");
+		ModelMappingExtractor extractor = new ModelMappingExtractor(expressions);
+		StreamingResponseParser parser = new StreamingResponseParser(objectMapper, extractor.getPropertyPaths(), "timeZones");
+		byte[] body = ("{\"skipped\":{\"values\":{\"integer\":1}},\"values\":{\"decimal\":2.50,\"integer\":-7,\"boolean\":true,\"null\":null,\"empty\":\"\","
+				+ "\"object\":{\"a\":[1,{\"b\":\"c\"}],\"d\":null},\"array\":[\"x\",2.0,{}]}}").getBytes(StandardCharsets.UTF_8);
+
+		Map<String, String> expected = extractor.extract(objectMapper.readTree(body));
+		Assertions.assertEquals(expected, parser.parse(body).getProperties());
+		Assertions.assertEquals("-7", expected.get("Integer"));
+		Assertions.assertFalse(expected.containsKey("Null"));
+		Assertions.assertFalse(expected.containsKey("ThroughScalar"));
+	}
+
+	/**
+	 * An unchanged body returns the previous response without parsing it again, a changed body is parsed.
+	 */
+	@Test
+	void testUnchangedResponseIsReused() throws Exception {
+		byte[] body = readFixture("/solstice/api-stats.json");
+		MonitoringResponse previousResponse = streamingResponseParser.parseChanged(body, null);
+		Assertions.assertSame(previousResponse, streamingResponseParser.parseChanged(body.clone(), previousResponse));
+
+		JsonNode changedStats = objectMapper.readTree(body);
+		((ObjectNode) changedStats.get("m_statistics")).put("m_connectedUsers", 42);
+		byte[] changedBody = objectMapper.writeValueAsBytes(changedStats);
+		MonitoringResponse changedResponse = streamingResponseParser.parseChanged(changedBody, previousResponse);
+		Assertions.assertNotSame(previousResponse, changedResponse);
+		Assertions.assertEquals(modelMappingExtractor.extract(changedStats), changedResponse.getProperties());
+		Assertions.assertEquals(ContentHash.hash(changedBody), changedResponse.getContentHash());
+	}
+
+	private byte[] readFixture(String path) throws Exception {
+		try (InputStream inputStream = getClass().getResourceAsStream(path); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, read);
+			}
+			return outputStream.toByteArray();
+		}
+	}
+}
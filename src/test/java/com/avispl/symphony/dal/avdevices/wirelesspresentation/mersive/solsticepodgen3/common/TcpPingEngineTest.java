@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.common;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wirelesspresentation.mersive.solsticepodgen3.dto.PingResult;
+
+/**
+ * Tests of {@link TcpPingEngine} against local server sockets.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.1.0
+ */
+@Tag("Mock")
+public class TcpPingEngineTest {
+	private static final String LOOPBACK = "127.0.0.1";
+
+	/**
+	 * Every attempt connects to a listening port, the latencies are ordered and measured in nanoseconds.
+	 */
+	@Test
+	void testListeningPortIsReached() throws Exception {
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOOPBACK))) {
+			PingResult result = TcpPingEngine.ping(LOOPBACK, serverSocket.getLocalPort(), 5, 1000);
+			Assertions.assertEquals(5, result.getAttempts());
+			Assertions.assertEquals(5, result.getSuccessfulAttempts());
+			Assertions.assertTrue(result.getMinLatency() >= 0);
+			Assertions.assertTrue(result.getMinLatency() <= result.getAverageLatency());
+			Assertions.assertTrue(result.getAverageLatency() <= result.getMaxLatency());
+			Assertions.assertTrue(result.getMaxLatency() < TimeUnit.SECONDS.toNanos(1));
+			Assertions.assertTrue(result.getJitter() <= result.getMaxLatency() - result.getMinLatency());
+		}
+	}
+
+	/**
+	 * A closed port fails right away with the connection error instead of waiting for the timeout.
+	 */
+	@Test
+	void testClosedPortFailsWithoutTimeout() throws Exception {
+		int port;
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOOPBACK))) {
+			port = serverSocket.getLocalPort();
+		}
+		long startTime = System.nanoTime();
+		IOException error = Assertions.assertThrows(IOException.class, () -> TcpPingEngine.ping(LOOPBACK, port, 3, 5000));
+		Assertions.assertFalse(error instanceof SocketTimeoutException);
+		Assertions.assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(4));
+	}
+
+	/**
+	 * Attempts that can't connect are bounded by a single timeout, whatever the number of attempts.
+	 * The server never accepts, so once its backlog is full the following connections stay pending where the platform drops them silently.
+	 */
+	@Test
+	void testPendingAttemptsShareOneTimeout() throws Exception {
+		List<Socket> backlog = new ArrayList<>();
+		try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getByName(LOOPBACK))) {
+			InetSocketAddress address = new InetSocketAddress(LOOPBACK, serverSocket.getLocalPort());
+			boolean isBacklogFull = false;
+			try {
+				while (backlog.size() < 10) {
+					Socket socket = new Socket();
+					backlog.add(socket);
+					socket.connect(address, 200);
+				}
+			} catch (SocketTimeoutException e) {
+				isBacklogFull = true;
+			} catch (IOException e) {
+				// Some platforms refuse the connections instead of leaving them pending
+			}
+			Assumptions.assumeTrue(isBacklogFull, "The connections beyond the backlog are not left pending on this platform");
+			long startTime = System.nanoTime();
+			SocketTimeoutException error = Assertions.assertThrows(SocketTimeoutException.class, () -> TcpPingEngine.ping(LOOPBACK, address.getPort(), 4, 500));
+			long elapsed = System.nanoTime() - startTime;
+			Assertions.assertTrue(error.getMessage().startsWith("4 of 4 connections"), error.getMessage());
+			Assertions.assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(450));
+			Assertions.assertTrue(elapsed < TimeUnit.MILLISECONDS.toNanos(1500));
+		} finally {
+			for (Socket socket : backlog) {
+				socket.close();
+			}
+		}
+	}
+}